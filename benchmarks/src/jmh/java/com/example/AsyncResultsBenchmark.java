@@ -0,0 +1,70 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gathers 10k concurrent simulated I/O calls, running them on virtual threads versus a pool of platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncResultsBenchmark {
+
+    static final int CALLS = 10_000;
+    static final int PLATFORM_THREADS = 200;
+    static final long LATENCY_MILLIS = 10;
+
+    ExecutorService virtualThreads;
+    ExecutorService platformThreads;
+
+    @Setup
+    public void setup() {
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        platformThreads = Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualThreads.shutdown();
+        platformThreads.shutdown();
+    }
+
+    static String call() throws InterruptedException {
+        Thread.sleep(LATENCY_MILLIS);
+        return "OK";
+    }
+
+    static Result<List<String>, Exception> gather(Executor executor) {
+        final List<CompletableFuture<Result<String, Exception>>> futures = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(AsyncResults.ofCallable(AsyncResultsBenchmark::call, executor));
+        }
+        return AsyncResults.allOf(futures).join();
+    }
+
+    @Benchmark
+    public Result<List<String>, Exception> virtualThreads() {
+        return gather(virtualThreads);
+    }
+
+    @Benchmark
+    public Result<List<String>, Exception> platformThreads() {
+        return gather(platformThreads);
+    }
+}
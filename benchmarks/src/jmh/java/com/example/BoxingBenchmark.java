@@ -0,0 +1,96 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of boxing numeric values into results, against {@link IntResult}, {@link LongResult} and
+ * {@link DoubleResult}, and a primitive baseline. Values within the {@link Integer} cache box for free; larger values
+ * allocate a new wrapper on every step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoxingBenchmark {
+
+    @Param({"123", "123456"})
+    int uptime;
+
+    Result<Integer, String> getServerUptime() {
+        return Results.success(uptime);
+    }
+
+    Result<Long, String> getDefaultPetId() {
+        return Results.success((long) uptime);
+    }
+
+    IntResult<String> getServerUptimeAsInt() {
+        return IntResult.success(uptime);
+    }
+
+    LongResult<String> getDefaultPetIdAsLong() {
+        return LongResult.success(uptime);
+    }
+
+    Result<Double, String> getLoadAverage() {
+        return Results.success(uptime / 100.0);
+    }
+
+    DoubleResult<String> getLoadAverageAsDouble() {
+        return DoubleResult.success(uptime / 100.0);
+    }
+
+    @Benchmark
+    public int boxedInt() {
+        return getServerUptime().mapSuccess(x -> x + 1).orElse(-1);
+    }
+
+    @Benchmark
+    public int specializedInt() {
+        return getServerUptimeAsInt().mapSuccess(x -> x + 1).orElse(-1);
+    }
+
+    @Benchmark
+    public int primitiveInt() {
+        return uptime + 1;
+    }
+
+    @Benchmark
+    public long boxedLong() {
+        return getDefaultPetId().mapSuccess(x -> x + 1).orElse(-1L);
+    }
+
+    @Benchmark
+    public long specializedLong() {
+        return getDefaultPetIdAsLong().mapSuccess(x -> x + 1).orElse(-1L);
+    }
+
+    @Benchmark
+    public long primitiveLong() {
+        return (long) uptime + 1;
+    }
+
+    @Benchmark
+    public double boxedDouble() {
+        return getLoadAverage().mapSuccess(x -> x * 2).orElse(-1.0);
+    }
+
+    @Benchmark
+    public double specializedDouble() {
+        return getLoadAverageAsDouble().mapSuccess(x -> x * 2).orElse(-1.0);
+    }
+
+    @Benchmark
+    public double primitiveDouble() {
+        return uptime / 100.0 * 2;
+    }
+}
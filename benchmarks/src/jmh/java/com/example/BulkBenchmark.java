@@ -0,0 +1,93 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Compares folding many results by hand against the bulk combinators. The failure path fails halfway through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    List<Long> validIds;
+    List<Long> invalidIds;
+
+    @Setup
+    public void setup() {
+        validIds = new ArrayList<>(size);
+        invalidIds = new ArrayList<>(size);
+        for (long id = 0; id < size; id++) {
+            validIds.add(id);
+            invalidIds.add(id == size / 2 ? -id - 1 : id);
+        }
+    }
+
+    static Result<Long, String> find(Long id) {
+        return id < 0 ? failure("Not found") : success(id);
+    }
+
+    static Result<List<Long>, String> fold(List<Long> ids) {
+        Result<List<Long>, String> result = success(new ArrayList<>());
+        for (Long id : ids) {
+            result = result.flatMapSuccess(list -> find(id).mapSuccess(found -> {
+                list.add(found);
+                return list;
+            }));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> foldSuccessPath() {
+        return fold(validIds);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> foldFailurePath() {
+        return fold(invalidIds);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> traverseSuccessPath() {
+        return BulkResults.traverse(validIds, BulkBenchmark::find);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> traverseFailurePath() {
+        return BulkResults.traverse(invalidIds, BulkBenchmark::find);
+    }
+
+    @Benchmark
+    public Result<List<Long>, List<String>> traverseAllFailurePath() {
+        return BulkResults.traverseAll(invalidIds, BulkBenchmark::find);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> collectSuccessPath() {
+        return validIds.stream().map(BulkBenchmark::find).collect(BulkResults.toResult());
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> collectFailurePath() {
+        return invalidIds.stream().map(BulkBenchmark::find).collect(BulkResults.toResult());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Calls {@code hasSuccess}, {@code orElse} and {@code mapSuccess} on results of one, two or three implementation
+ * classes, so the call sites become monomorphic, bimorphic or megamorphic.
+ *
+ * <p>The {@code resolved} profile starts with the same results as {@code megamorphic}, but lazy results are resolved
+ * into regular ones before they reach the hot loop. The {@code sealed} profile converts them instead into a sealed
+ * hierarchy of two records, which the hot loop takes apart with a pattern-matching {@code switch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CallSiteProfileBenchmark {
+
+    static final int SIZE = 1024;
+
+    /* Prototype of a result type the compiler knows to have exactly two implementations */
+    sealed interface Outcome<S, F> {
+
+        record Success<S, F>(S value) implements Outcome<S, F> {
+        }
+
+        record Failure<S, F>(F value) implements Outcome<S, F> {
+        }
+    }
+
+    @Param({"monomorphic", "bimorphic", "megamorphic", "resolved", "sealed"})
+    String profile;
+
+    Result<Integer, String>[] results;
+    Outcome<Integer, String>[] outcomes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        results = new Result[SIZE];
+        if (profile.equals("sealed")) {
+            outcomes = new Outcome[SIZE];
+        }
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = switch (profile) {
+                case "monomorphic" -> success(i & 0x7F);
+                case "bimorphic" -> i % 2 == 0 ? success(i & 0x7F) : failure("Failure");
+                default -> newResult(i);
+            };
+            if (profile.equals("resolved")) {
+                results[i] = resolve(results[i]);
+            } else if (outcomes != null) {
+                outcomes[i] = toOutcome(results[i]);
+            }
+        }
+    }
+
+    static Result<Integer, String> newResult(int i) {
+        return switch (i % 3) {
+            case 0 -> success(i & 0x7F);
+            case 1 -> failure("Failure");
+            default -> LazyResults.ofSupplier(() -> success(i & 0x7F));
+        };
+    }
+
+    /* Replaces any result with an equivalent regular success or failure */
+    static <S, F> Result<S, F> resolve(Result<S, F> result) {
+        return result.hasSuccess() ? success(result.orElse(null)) : failure(result.getFailure().orElseThrow());
+    }
+
+    static <S, F> Outcome<S, F> toOutcome(Result<S, F> result) {
+        return result.hasSuccess()
+                ? new Outcome.Success<>(result.orElse(null))
+                : new Outcome.Failure<>(result.getFailure().orElseThrow());
+    }
+
+    @Benchmark
+    public int callSites() {
+        if (outcomes != null) {
+            return patterns();
+        }
+        int sum = 0;
+        for (Result<Integer, String> result : results) {
+            if (result.hasSuccess()) {
+                sum += result.orElse(0);
+            }
+            sum += result.mapSuccess(x -> x + 1).orElse(-1);
+        }
+        return sum;
+    }
+
+    /* Same work as the loop above, on outcomes */
+    int patterns() {
+        int sum = 0;
+        for (Outcome<Integer, String> outcome : outcomes) {
+            sum += switch (outcome) {
+                case Outcome.Success<Integer, String>(Integer value) -> value + value + 1;
+                case Outcome.Failure<Integer, String> ignored -> -1;
+            };
+        }
+        return sum;
+    }
+}
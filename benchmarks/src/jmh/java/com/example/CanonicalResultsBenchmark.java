@@ -0,0 +1,83 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.CanonicalResultsBenchmark.PetError.NOT_FOUND;
+
+/**
+ * Compares creating common results over and over against getting canonical instances from {@link CanonicalResults}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CanonicalResultsBenchmark {
+
+    enum PetError {NOT_FOUND, NO_CONFIG}
+
+    String nullable = null;
+
+    @Setup
+    public void setup() {
+        CanonicalResults.intern(404);
+    }
+
+    @Benchmark
+    public Result<Integer, PetError> createStatusCode() {
+        return Results.success(200);
+    }
+
+    @Benchmark
+    public Result<Integer, PetError> canonicalStatusCode() {
+        return CanonicalResults.success(200);
+    }
+
+    @Benchmark
+    public Result<Integer, PetError> createEnumFailure() {
+        return Results.failure(NOT_FOUND);
+    }
+
+    @Benchmark
+    public Result<Integer, PetError> canonicalEnumFailure() {
+        return CanonicalResults.failure(NOT_FOUND);
+    }
+
+    @Benchmark
+    public Result<String, Integer> createOfNullable() {
+        return Results.ofNullable(nullable, 404);
+    }
+
+    @Benchmark
+    public Result<String, Integer> canonicalOfNullable() {
+        return CanonicalResults.ofNullable(nullable, 404);
+    }
+
+    @Benchmark
+    public Result<Boolean, PetError> createBoolean() {
+        return Results.success(true);
+    }
+
+    @Benchmark
+    public Result<Boolean, PetError> canonicalBoolean() {
+        return CanonicalResults.success(true);
+    }
+
+    @Benchmark
+    public Result<String, PetError> createEmptyString() {
+        return Results.success("");
+    }
+
+    @Benchmark
+    public Result<String, PetError> canonicalEmptyString() {
+        return CanonicalResults.success("");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+
+/**
+ * Wraps a legacy cache that throws on every miss, {@code depth} frames down the stack, comparing regular, stack-less
+ * and pre-allocated exceptions with returning a failed result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionCaptureBenchmark {
+
+    /** Represents a lightweight failure */
+    enum CacheFailure {
+        MISS
+    }
+
+    static final Exception PRE_ALLOCATED = new Exception("Miss");
+
+    @Param({"1", "50"})
+    int depth;
+
+    <T> T deep(int frames, Callable<T> callable) throws Exception {
+        return frames <= 1 ? callable.call() : deep(frames - 1, callable);
+    }
+
+    Result<String, CacheFailure> deepResult(int frames) {
+        return frames <= 1 ? failure(CacheFailure.MISS) : deepResult(frames - 1);
+    }
+
+    @Benchmark
+    public Result<String, Exception> regularException() {
+        return Results.ofCallable(() -> deep(depth, () -> {
+            throw new Exception("Miss");
+        }));
+    }
+
+    @Benchmark
+    public Result<String, CacheFailure> regularExceptionMapped() {
+        return LightweightFailures.ofCallable(() -> deep(depth, () -> {
+            throw new Exception("Miss");
+        }), e -> CacheFailure.MISS);
+    }
+
+    @Benchmark
+    public Result<String, CacheFailure> stacklessExceptionMapped() {
+        return LightweightFailures.ofCallable(() -> deep(depth, () -> {
+            throw new LightweightFailures.StacklessException("Miss");
+        }), e -> CacheFailure.MISS);
+    }
+
+    @Benchmark
+    public Result<String, CacheFailure> preAllocatedExceptionMapped() {
+        return LightweightFailures.ofCallable(() -> deep(depth, () -> {
+            throw PRE_ALLOCATED;
+        }), e -> CacheFailure.MISS);
+    }
+
+    @Benchmark
+    public Result<String, CacheFailure> failedResult() {
+        return deepResult(depth);
+    }
+}
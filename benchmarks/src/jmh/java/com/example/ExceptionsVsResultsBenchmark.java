@@ -0,0 +1,142 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reproduces the simple and complex scenarios of the exceptions versus results comparison, invoked {@code depth}
+ * frames down the stack, in one thread and in eight threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionsVsResultsBenchmark {
+
+    /** Represents a simple error */
+    static class SimpleException extends Exception {
+
+        SimpleException(int number) {
+            super("Negative number: " + number);
+        }
+    }
+
+    /** Represents a complex error */
+    static class ComplexException extends Exception {
+
+        ComplexException(SimpleException cause) {
+            super(cause);
+        }
+    }
+
+    /** Represents a simple failure */
+    record SimpleFailure(int number) {
+    }
+
+    /** Represents a complex failure */
+    record ComplexFailure(SimpleFailure cause) {
+    }
+
+    @Param({"simple", "complex"})
+    String scenario;
+
+    @Param({"success", "failure"})
+    String outcome;
+
+    @Param({"1", "10", "50", "200"})
+    int depth;
+
+    int number;
+    boolean complex;
+
+    @Setup
+    public void setup() {
+        number = outcome.equals("success") ? 1 : -1;
+        complex = scenario.equals("complex");
+    }
+
+    static String simpleUsingExceptions(int number) throws SimpleException {
+        if (number < 0) {
+            throw new SimpleException(number);
+        }
+        return "ok";
+    }
+
+    static Result<String, SimpleFailure> simpleUsingResults(int number) {
+        if (number < 0) {
+            return Results.failure(new SimpleFailure(number));
+        }
+        return Results.success("ok");
+    }
+
+    static String complexUsingExceptions(int number) throws ComplexException {
+        try {
+            return simpleUsingExceptions(number).toUpperCase();
+        } catch (SimpleException e) {
+            throw new ComplexException(e);
+        }
+    }
+
+    static Result<String, ComplexFailure> complexUsingResults(int number) {
+        return simpleUsingResults(number)
+                .map(String::toUpperCase, ComplexFailure::new);
+    }
+
+    String usingExceptions(int frames) throws Exception {
+        if (frames > 1) {
+            return usingExceptions(frames - 1);
+        }
+        return complex ? complexUsingExceptions(number) : simpleUsingExceptions(number);
+    }
+
+    Result<String, ?> usingResults(int frames) {
+        if (frames > 1) {
+            return usingResults(frames - 1);
+        }
+        return complex ? complexUsingResults(number) : simpleUsingResults(number);
+    }
+
+    Object catching() {
+        try {
+            return usingExceptions(depth);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object usingExceptions() {
+        return catching();
+    }
+
+    @Benchmark
+    public Result<String, ?> usingResults() {
+        return usingResults(depth);
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object usingExceptionsInParallel() {
+        return catching();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Result<String, ?> usingResultsInParallel() {
+        return usingResults(depth);
+    }
+}
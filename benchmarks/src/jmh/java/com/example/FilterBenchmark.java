@@ -0,0 +1,24 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class FilterBenchmark extends ResultBenchmark {
+
+    @Benchmark
+    public Result<Integer, String> successPath() {
+        return chain(success);
+    }
+
+    @Benchmark
+    public Result<Integer, String> failurePath() {
+        return chain(failure);
+    }
+
+    Result<Integer, String> chain(Result<Integer, String> result) {
+        for (int i = 0; i < steps; i++) {
+            result = result.filter(x -> x > 0, x -> "It's negative");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+public class FlatMapBenchmark extends ResultBenchmark {
+
+    @Benchmark
+    public Result<Integer, String> successPath() {
+        return chain(success);
+    }
+
+    @Benchmark
+    public Result<Integer, String> failurePath() {
+        return chain(failure);
+    }
+
+    Result<Integer, String> chain(Result<Integer, String> result) {
+        for (int i = 0; i < steps; i++) {
+            result = result.flatMap(x -> success(negate(x)), x -> failure(x));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.function.Consumer;
+
+public class IfSuccessOrElseBenchmark extends ResultBenchmark {
+
+    Consumer<Integer> onSuccess;
+    Consumer<String> onFailure;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        onSuccess = blackhole::consume;
+        onFailure = blackhole::consume;
+    }
+
+    @Benchmark
+    public Result<Integer, String> successPath() {
+        return chain(success);
+    }
+
+    @Benchmark
+    public Result<Integer, String> failurePath() {
+        return chain(failure);
+    }
+
+    Result<Integer, String> chain(Result<Integer, String> result) {
+        for (int i = 0; i < steps; i++) {
+            result = result.ifSuccessOrElse(onSuccess, onFailure);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Serializes an {@code ApiResponse} and deserializes it back, using the Jackson 2.x and 3.x datatype modules for
+ * Result, as well as the streaming module in both its regular and compact forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonBenchmark {
+
+    /** Represents an API response */
+    public static class ApiResponse {
+
+        @JsonProperty
+        String version;
+
+        @JsonProperty
+        Result<String, String> result;
+
+        public ApiResponse() {
+        }
+
+        ApiResponse(String version, Result<String, String> result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+
+    @Param({"success", "failure"})
+    String outcome;
+
+    ApiResponse response;
+    ObjectMapper resultModule;
+    ObjectMapper streamingModule;
+    ObjectMapper compactStreamingModule;
+    tools.jackson.databind.ObjectMapper resultModule3;
+
+    @Setup
+    public void setup() {
+        response = new ApiResponse("v1", outcome.equals("success") ? success("All good") : failure("Oops"));
+        resultModule = new ObjectMapper().findAndRegisterModules();
+        streamingModule = new ObjectMapper().registerModule(new StreamingResultModule());
+        compactStreamingModule = new ObjectMapper().registerModule(new StreamingResultModule(true));
+        resultModule3 = JsonMapper.builder().findAndAddModules().build();
+    }
+
+    static ApiResponse roundTrip(ObjectMapper objectMapper, ApiResponse response) throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(response), ApiResponse.class);
+    }
+
+    @Benchmark
+    public ApiResponse jackson2ResultModule() throws IOException {
+        return roundTrip(resultModule, response);
+    }
+
+    @Benchmark
+    public ApiResponse jackson2StreamingModule() throws IOException {
+        return roundTrip(streamingModule, response);
+    }
+
+    @Benchmark
+    public ApiResponse jackson2CompactStreamingModule() throws IOException {
+        return roundTrip(compactStreamingModule, response);
+    }
+
+    @Benchmark
+    public ApiResponse jackson3ResultModule() {
+        return resultModule3.readValue(resultModule3.writeValueAsBytes(response), ApiResponse.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Hits one memoizing supplier from 64 threads, directly or through a new lazy result every time, and checks how many
+ * times the expensive calculation was executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(LazyContentionBenchmark.THREADS)
+public class LazyContentionBenchmark {
+
+    static final int THREADS = 64;
+
+    @Param({"once", "perThread", "expiring"})
+    String mode;
+
+    AtomicLong timesExecuted;
+    Supplier<Result<Long, Exception>> supplier;
+
+    Result<Long, Exception> expensiveCalculation() {
+        long counter = timesExecuted.incrementAndGet();
+        return success(counter);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        timesExecuted = new AtomicLong();
+        supplier = switch (mode) {
+            case "once" -> LazySuppliers.once(this::expensiveCalculation);
+            case "perThread" -> LazySuppliers.perThread(this::expensiveCalculation);
+            case "expiring" -> LazySuppliers.expiring(this::expensiveCalculation, Duration.ofMinutes(1));
+            default -> throw new IllegalArgumentException(mode);
+        };
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        final long expected = mode.equals("perThread") ? THREADS : 1;
+        if (timesExecuted.get() > expected) {
+            throw new IllegalStateException("Executed " + timesExecuted.get() + " times in " + mode + " mode");
+        }
+    }
+
+    @Benchmark
+    public Long get() {
+        return supplier.get().orElse(-1L);
+    }
+
+    /* A lazy result memoizes its supplier's result, so each read needs a new one */
+    @Benchmark
+    public Long lazyOrElse() {
+        return LazyResults.ofSupplier(supplier).orElse(-1L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Compares chaining deferred operations on lazy results against fusing them into a single lazy pipeline. Each step
+ * adds one operation, cycling through {@code filter}, {@code mapSuccess} and {@code recover}.
+ */
+public class LazyFusionBenchmark extends ResultBenchmark {
+
+    @Benchmark
+    public boolean chainedSuccessPath() {
+        return chain(LazyResults.ofSupplier(() -> success)).hasSuccess();
+    }
+
+    @Benchmark
+    public boolean chainedFailurePath() {
+        return chain(LazyResults.ofSupplier(() -> failure)).hasSuccess();
+    }
+
+    @Benchmark
+    public boolean fusedSuccessPath() {
+        return fuse(LazyPipeline.of(() -> success)).toResult().hasSuccess();
+    }
+
+    @Benchmark
+    public boolean fusedFailurePath() {
+        return fuse(LazyPipeline.of(() -> failure)).toResult().hasSuccess();
+    }
+
+    Result<Integer, String> chain(Result<Integer, String> result) {
+        for (int i = 0; i < steps; i++) {
+            result = switch (i % 3) {
+                case 0 -> result.filter(x -> x != 0, x -> "It's zero");
+                case 1 -> result.mapSuccess(ResultBenchmark::negate);
+                default -> result.recover(String::isEmpty, String::length);
+            };
+        }
+        return result;
+    }
+
+    LazyPipeline<Integer, String> fuse(LazyPipeline<Integer, String> pipeline) {
+        for (int i = 0; i < steps; i++) {
+            pipeline = switch (i % 3) {
+                case 0 -> pipeline.filter(x -> x != 0, x -> "It's zero");
+                case 1 -> pipeline.mapSuccess(ResultBenchmark::negate);
+                default -> pipeline.recover(String::isEmpty, String::length);
+            };
+        }
+        return pipeline;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class LazyOfSupplierBenchmark extends ResultBenchmark {
+
+    @Benchmark
+    public boolean successPath() {
+        return chain(LazyResults.ofSupplier(() -> success)).hasSuccess();
+    }
+
+    @Benchmark
+    public boolean failurePath() {
+        return chain(LazyResults.ofSupplier(() -> failure)).hasSuccess();
+    }
+
+    Result<Integer, String> chain(Result<Integer, String> result) {
+        for (int i = 0; i < steps; i++) {
+            result = result.mapSuccess(ResultBenchmark::negate);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates results with {@link Results} and with {@link MeteredResults}, with metrics disabled and enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeteredResultsBenchmark {
+
+    Integer value = 1;
+    String error = "Failure";
+
+    @Benchmark
+    public Result<Integer, String> plainSuccess() {
+        return Results.success(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> plainFailure() {
+        return Results.failure(error);
+    }
+
+    @Benchmark
+    public Result<Integer, String> disabledSuccess() {
+        return MeteredResults.success("benchmark", value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> disabledFailure() {
+        return MeteredResults.failure("benchmark", error);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dresult.metrics=true")
+    public Result<Integer, String> enabledSuccess() {
+        return MeteredResults.success("benchmark", value);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dresult.metrics=true")
+    public Result<Integer, String> enabledFailure() {
+        return MeteredResults.failure("benchmark", error);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class OfCallableBenchmark extends ResultBenchmark {
+
+    String task1() {
+        return "OK";
+    }
+
+    String task2() throws Exception {
+        throw new Exception("Whoops!");
+    }
+
+    @Benchmark
+    public Result<String, Exception> successPath() {
+        Result<String, Exception> result = Results.ofCallable(this::task1);
+        for (int i = 1; i < steps; i++) {
+            result = result.flatMapSuccess(x -> Results.ofCallable(this::task1));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Result<String, Exception> failurePath() {
+        Result<String, Exception> result = Results.ofCallable(this::task2);
+        for (int i = 1; i < steps; i++) {
+            result = result.recover(x -> true, x -> "").flatMapSuccess(x -> Results.ofCallable(this::task2));
+        }
+        return result;
+    }
+}
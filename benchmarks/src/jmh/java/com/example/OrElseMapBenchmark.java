@@ -0,0 +1,25 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class OrElseMapBenchmark extends ResultBenchmark {
+
+    @Benchmark
+    public int successPath() {
+        return chain(success);
+    }
+
+    @Benchmark
+    public int failurePath() {
+        return chain(failure);
+    }
+
+    int chain(Result<Integer, String> result) {
+        int sum = 0;
+        for (int i = 0; i < steps; i++) {
+            sum += result.orElseMap(String::length);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Compares sequential and parallel traversal of a CPU-bound function, for an increasing number of cores. The failure
+ * path fails halfway through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelTraverseBenchmark {
+
+    static final int SIZE = 10_000;
+    static final long TOKENS = 1_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    int parallelism;
+
+    ForkJoinPool pool;
+    List<Long> validIds;
+    List<Long> invalidIds;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(parallelism);
+        validIds = new ArrayList<>(SIZE);
+        invalidIds = new ArrayList<>(SIZE);
+        for (long id = 0; id < SIZE; id++) {
+            validIds.add(id);
+            invalidIds.add(id == SIZE / 2 ? -id - 1 : id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    static Result<Long, String> validate(Long id) {
+        Blackhole.consumeCPU(TOKENS);
+        return id < 0 ? failure("Invalid") : success(id);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> sequentialSuccessPath() {
+        return BulkResults.traverse(validIds, ParallelTraverseBenchmark::validate);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> sequentialFailurePath() {
+        return BulkResults.traverse(invalidIds, ParallelTraverseBenchmark::validate);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> parallelSuccessPath() {
+        return BulkResults.parallelTraverse(validIds, ParallelTraverseBenchmark::validate, pool);
+    }
+
+    @Benchmark
+    public Result<List<Long>, String> parallelFailurePath() {
+        return BulkResults.parallelTraverse(invalidIds, ParallelTraverseBenchmark::validate, pool);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates failed results with {@link Results} and with {@link RecordedResults}, while no recording is running.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordedResultsBenchmark {
+
+    static final Exception EXCEPTION = new Exception("Failure");
+
+    static String fail() throws Exception {
+        throw EXCEPTION;
+    }
+
+    @Benchmark
+    public Result<String, Exception> plainOfCallable() {
+        return Results.ofCallable(RecordedResultsBenchmark::fail);
+    }
+
+    @Benchmark
+    public Result<String, Exception> recordedOfCallable() {
+        return RecordedResults.ofCallable(RecordedResultsBenchmark::fail);
+    }
+
+    @Benchmark
+    public Result<Integer, String> plainFailure() {
+        return Results.failure("Failure");
+    }
+
+    @Benchmark
+    public Result<Integer, String> recordedFailure() {
+        return RecordedResults.failure("Failure");
+    }
+}
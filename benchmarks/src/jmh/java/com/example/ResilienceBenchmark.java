@@ -0,0 +1,55 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Measures the overhead per call of the {@link Resilience} operators, wrapping an operation that always succeeds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResilienceBenchmark {
+
+    final Supplier<Result<String, String>> connect = () -> success("Connected");
+    final Resilience.CircuitBreaker breaker = new Resilience.CircuitBreaker(100, 0.5, 10, Duration.ofSeconds(30));
+    final Supplier<Result<String, String>> timeout = Resilience.timeout(connect, Duration.ofSeconds(1), "Timeout");
+
+    @Benchmark
+    public Result<String, String> plain() {
+        return connect.get();
+    }
+
+    @Benchmark
+    public Result<String, String> retry() {
+        return Resilience.retry(connect, 3, Duration.ofMillis(100), "Connection error"::equals);
+    }
+
+    @Benchmark
+    public Result<String, String> circuitBreaker() {
+        return breaker.call(connect, "Circuit open");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Result<String, String> contendedCircuitBreaker() {
+        return breaker.call(connect, "Circuit open");
+    }
+
+    @Benchmark
+    public Result<String, String> timeout() {
+        return timeout.get();
+    }
+}
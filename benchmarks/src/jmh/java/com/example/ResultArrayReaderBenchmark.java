@@ -0,0 +1,85 @@
+package com.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Streams large JSON arrays of results from disk, within a heap much smaller than the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class ResultArrayReaderBenchmark {
+
+    static final int CHUNK_SIZE = 1024;
+
+    @Param({"16", "1024"})
+    int megabytes;
+
+    ObjectMapper objectMapper;
+    Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = new ObjectMapper().registerModule(new StreamingResultModule(true));
+        file = Files.createTempFile("results", ".json");
+        final long bytes = megabytes * 1024L * 1024L;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write('[');
+            long written = 1;
+            for (long i = 0; written < bytes; i++) {
+                final String element = (i == 0 ? "" : ",")
+                        + (i % 10 == 9 ? "{\"failure\":\"Error " + i + "\"}" : "{\"success\":" + i + "}");
+                writer.write(element);
+                written += element.length();
+            }
+            writer.write(']');
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    InputStream input() throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    @Benchmark
+    public long stream() throws IOException {
+        try (Stream<Result<Long, String>> results =
+                     ResultArrayReader.stream(objectMapper, input(), Long.class, String.class)) {
+            return results.filter(Result::hasSuccess).count();
+        }
+    }
+
+    @Benchmark
+    public long chunks() throws IOException {
+        try (Stream<List<Result<Long, String>>> chunks =
+                     ResultArrayReader.chunks(objectMapper, input(), Long.class, String.class, CHUNK_SIZE)) {
+            return chunks.mapToLong(chunk -> chunk.stream().filter(Result::hasSuccess).count()).sum();
+        }
+    }
+}
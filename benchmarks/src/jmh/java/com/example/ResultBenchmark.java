@@ -0,0 +1,37 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Base state shared by all benchmarks: one successful and one failed result, chained {@code steps} times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public abstract class ResultBenchmark {
+
+    static final Integer SUCCESS = 1;
+    static final String FAILURE = "Failure";
+
+    @Param({"1", "10", "100"})
+    int steps;
+
+    final Result<Integer, String> success = success(SUCCESS);
+    final Result<Integer, String> failure = failure(FAILURE);
+
+    /* Negating keeps boxed values within the Integer cache, so boxing does not pollute allocation rates */
+    static Integer negate(Integer value) {
+        return -value;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Looks up skewed keys in a {@link ResultCache} backed by a slow loader, with one and eight threads. One in ten keys is
+ * not found. Hits and misses are reported as secondary metrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultCacheBenchmark {
+
+    static final int KEYS = 100_000;
+    static final int LOAD_TOKENS = 10_000;
+
+    /** Walks its own sequence of keys */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        final long[] keys = new long[1 << 16];
+        int index;
+
+        @Setup
+        public void setup() {
+            final SplittableRandom random = new SplittableRandom(keys.hashCode());
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = (long) (KEYS * Math.pow(random.nextDouble(), 4));
+            }
+        }
+
+        long next() {
+            return keys[index++ & (keys.length - 1)];
+        }
+    }
+
+    /** Counts the hits and misses of each thread */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+
+        /* The loader runs on the thread that missed */
+        static final ThreadLocal<Lookups> CURRENT = new ThreadLocal<>();
+
+        public long hits;
+        public long misses;
+
+        @Setup
+        public void setup() {
+            CURRENT.set(this);
+        }
+    }
+
+    @Param({"1000", "10000"})
+    int maximumSize;
+
+    ResultCache<Long, Long, String> cache;
+
+    @Setup
+    public void setup() {
+        cache = ResultCache.of(ResultCacheBenchmark::load, maximumSize, Duration.ofMinutes(1), Duration.ofSeconds(1));
+    }
+
+    static Result<Long, String> load(Long id) {
+        Lookups.CURRENT.get().misses++;
+        Blackhole.consumeCPU(LOAD_TOKENS);
+        return id % 10 == 0 ? failure("Not found") : success(id);
+    }
+
+    @Benchmark
+    public Result<Long, String> get(Keys keys, Lookups lookups) {
+        return lookup(keys, lookups);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Result<Long, String> contendedGet(Keys keys, Lookups lookups) {
+        return lookup(keys, lookups);
+    }
+
+    Result<Long, String> lookup(Keys keys, Lookups lookups) {
+        final long misses = lookups.misses;
+        final Result<Long, String> result = cache.get(keys.next());
+        if (lookups.misses == misses) {
+            lookups.hits++;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Encodes and decodes a result using the binary codec, its primitive fast path, and the Jackson 2.x modules for Result.
+ *
+ * <p>Encoding benchmarks report the encoded size of each format as the {@code bytes} secondary metric.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultCodecBenchmark {
+
+    @Param({"success", "failure"})
+    String outcome;
+
+    Result<Long, String> result;
+    LongResult<String> primitive;
+    ResultCodec<Long, String> codec;
+    ResultCodec.LongCodec<String> longCodec;
+    ByteBuffer buffer;
+    ObjectMapper resultModule;
+    ObjectMapper compactStreamingModule;
+    JavaType type;
+    byte[] binary;
+    byte[] json;
+    byte[] compactJson;
+
+    @Setup
+    public void setup() throws IOException {
+        result = outcome.equals("success") ? success(1234567890L) : failure("Something went wrong");
+        primitive = LongResult.of(result);
+        codec = ResultCodec.of(ResultCodec.LONG, ResultCodec.STRING);
+        longCodec = ResultCodec.ofLong(ResultCodec.STRING);
+        buffer = ByteBuffer.allocateDirect(1024);
+        resultModule = new ObjectMapper().findAndRegisterModules();
+        compactStreamingModule = new ObjectMapper().registerModule(new StreamingResultModule(true));
+        type = resultModule.getTypeFactory().constructParametricType(Result.class, Long.class, String.class);
+        binary = codec.encode(result);
+        json = resultModule.writeValueAsBytes(result);
+        compactJson = compactStreamingModule.writeValueAsBytes(result);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytes;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary(EncodedSize size) {
+        buffer.clear();
+        codec.write(result, buffer);
+        size.bytes = buffer.position();
+        return buffer;
+    }
+
+    @Benchmark
+    public Result<Long, String> decodeBinary() {
+        return codec.read(ByteBuffer.wrap(binary));
+    }
+
+    @Benchmark
+    public ByteBuffer encodePrimitiveBinary(EncodedSize size) {
+        buffer.clear();
+        longCodec.write(primitive, buffer);
+        size.bytes = buffer.position();
+        return buffer;
+    }
+
+    @Benchmark
+    public LongResult<String> decodePrimitiveBinary() {
+        return longCodec.read(ByteBuffer.wrap(binary));
+    }
+
+    @Benchmark
+    public byte[] encodeResultModule(EncodedSize size) throws IOException {
+        final byte[] bytes = resultModule.writeValueAsBytes(result);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Result<Long, String> decodeResultModule() throws IOException {
+        return resultModule.readValue(json, type);
+    }
+
+    @Benchmark
+    public byte[] encodeCompactStreamingModule(EncodedSize size) throws IOException {
+        final byte[] bytes = compactStreamingModule.writeValueAsBytes(result);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Result<Long, String> decodeCompactStreamingModule() throws IOException {
+        return compactStreamingModule.readValue(compactJson, type);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Pushes one million results through an in-process publisher and reports elements per second, comparing the
+ * {@link ResultFlows} operators with unwrapping every element with {@code streamSuccess}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResultFlowsBenchmark {
+
+    static final int ELEMENTS = 1_000_000;
+    static final int BATCH_SIZE = 256;
+
+    /** Consumes every element, requesting them in batches */
+    static class Sink<T> implements Flow.Subscriber<T> {
+
+        private final Blackhole blackhole;
+        private Flow.Subscription subscription;
+        private int received;
+
+        Sink(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(BATCH_SIZE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            blackhole.consume(item);
+            if (++received == BATCH_SIZE) {
+                received = 0;
+                subscription.request(BATCH_SIZE);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            blackhole.consume(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    List<Result<Integer, String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            results.add(i % 10 == 0 ? failure("Failure") : success(i & 0x7F));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void streamSuccess(Blackhole blackhole) {
+        new IterablePublisher<>(results).subscribe(new Sink<>(blackhole) {
+            @Override
+            public void onNext(Result<Integer, String> item) {
+                item.streamSuccess().forEach(blackhole::consume);
+                super.onNext(item);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void split(Blackhole blackhole) {
+        ResultFlows.split(new IterablePublisher<>(results), new Sink<>(blackhole), new Sink<>(blackhole));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void mapSuccess(Blackhole blackhole) {
+        ResultFlows.mapSuccess(new IterablePublisher<>(results), x -> -x).subscribe(new Sink<>(blackhole));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void flatMap(Blackhole blackhole) {
+        ResultFlows.flatMap(new IterablePublisher<>(results), x -> success(-x), x -> success(0))
+                .subscribe(new Sink<>(blackhole));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void batch(Blackhole blackhole) {
+        ResultFlows.batch(new IterablePublisher<>(results), BATCH_SIZE).subscribe(new Sink<>(blackhole));
+    }
+}
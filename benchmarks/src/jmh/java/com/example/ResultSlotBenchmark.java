@@ -0,0 +1,81 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Processes a stream of events, one in ten of them invalid, creating new results for every event or reusing the same
+ * two {@link ResultSlot slots}. The GC profiler reports the allocation per event, and each fork writes its GC log to
+ * {@code build/results/jmh}.
+ *
+ * <p>Event values lie outside the {@link Integer#valueOf(int) Integer cache}, so both benchmarks box every valid value
+ * and its negation. Slots save the results themselves, not the boxes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultSlotBenchmark {
+
+    static final int EVENTS = 1024;
+    static final String INVALID = "Invalid event";
+
+    int[] events;
+    long total;
+    long invalid;
+    final ResultSlot<Integer, String> parsed = new ResultSlot<>();
+    final ResultSlot<Integer, String> negated = new ResultSlot<>();
+    final Function<Integer, Integer> negate = x -> -x;
+    final Consumer<Integer> accumulate = x -> total += x;
+    final Consumer<String> count = x -> invalid++;
+
+    @Setup
+    public void setup() {
+        events = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = i % 10 == 0 ? -1 : 1000 + i;
+        }
+    }
+
+    static Result<Integer, String> parse(int event) {
+        return event < 0 ? failure(INVALID) : success(event);
+    }
+
+    static ResultSlot<Integer, String> parse(int event, ResultSlot<Integer, String> slot) {
+        return event < 0 ? slot.failure(INVALID) : slot.success(event);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    @Fork(jvmArgsAppend = "-Xlog:gc:file=build/results/jmh/results-gc.log")
+    public long results() {
+        for (int event : events) {
+            parse(event).mapSuccess(negate).ifSuccessOrElse(accumulate, count);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    @Fork(jvmArgsAppend = "-Xlog:gc:file=build/results/jmh/result-slots-gc.log")
+    public long resultSlots() {
+        for (int event : events) {
+            parse(event, parsed).mapSuccess(negate, negated).ifSuccessOrElse(accumulate, count);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Extracts the success values of many results, comparing the {@code streamSuccess} flat-map idiom with
+ * {@link ResultValues}. One in ten results is a failure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultValuesBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    List<Result<Long, String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            results.add(i % 10 == 0 ? failure("Failure") : success(i));
+        }
+    }
+
+    @Benchmark
+    public List<Long> streamSuccessFlatMap() {
+        return results.stream().flatMap(Result::streamSuccess).toList();
+    }
+
+    @Benchmark
+    public List<Long> drainSuccesses() {
+        return ResultValues.successes(results, new ArrayList<>(results.size()));
+    }
+
+    @Benchmark
+    public long streamSuccessFlatMapSum() {
+        return results.stream().flatMap(Result::streamSuccess).mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long successSpliteratorSum() {
+        return StreamSupport.stream(ResultValues.successSpliterator(results), false).mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSuccessFlatMapSum() {
+        return results.parallelStream().flatMap(Result::streamSuccess).mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSuccessSpliteratorSum() {
+        return StreamSupport.stream(ResultValues.successSpliterator(results), true).mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.ResultsAssert.assertThatResults;
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Asserts on ten million results, comparing one {@code ResultAssertions.assertThat} per element with
+ * {@link ResultsAssert}. In the failing collection, one in a hundred results is a failure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ResultsAssertBenchmark {
+
+    static final int SIZE = 10_000_000;
+
+    List<Result<Integer, String>> successes;
+    List<Result<Integer, String>> mixed;
+
+    @Setup
+    public void setup() {
+        final Result<Integer, String> invalid = failure("Invalid");
+        successes = new ArrayList<>(SIZE);
+        mixed = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final Result<Integer, String> valid = success(i & 0x7F);
+            successes.add(valid);
+            mixed.add(i % 100 == 0 ? invalid : valid);
+        }
+    }
+
+    @Benchmark
+    public Object perElementAllHaveSuccess() {
+        Object last = null;
+        for (Result<Integer, String> result : successes) {
+            last = ResultAssertions.assertThat(result).hasSuccess();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Object bulkAllHaveSuccess() {
+        return assertThatResults(successes).allHaveSuccess();
+    }
+
+    @Benchmark
+    public Object bulkAllHaveSuccessFailing() {
+        try {
+            return assertThatResults(mixed).allHaveSuccess();
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object bulkFailuresSatisfy() {
+        return assertThatResults(mixed).failuresSatisfy(failure -> {
+            if (failure.isEmpty()) {
+                throw new AssertionError("Empty failure");
+            }
+        });
+    }
+}
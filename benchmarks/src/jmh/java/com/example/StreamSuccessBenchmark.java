@@ -0,0 +1,32 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Arrays;
+
+public class StreamSuccessBenchmark extends ResultBenchmark {
+
+    Result<Integer, String>[] successes;
+    Result<Integer, String>[] failures;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        successes = new Result[steps];
+        failures = new Result[steps];
+        Arrays.fill(successes, success);
+        Arrays.fill(failures, failure);
+    }
+
+    @Benchmark
+    public long successPath() {
+        return Arrays.stream(successes).flatMap(Result::streamSuccess).count();
+    }
+
+    @Benchmark
+    public long failurePath() {
+        return Arrays.stream(failures).flatMap(Result::streamSuccess).count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Validates every field of a request, comparing a hand-built list of errors with {@link Validation}. In the
+ * {@code invalid} case, every other field is invalid. The {@code zip8} benchmark validates the first eight fields only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    static final int FIELDS = 32;
+
+    @Param({"valid", "invalid"})
+    String outcome;
+
+    int[] fields;
+
+    @Setup
+    public void setup() {
+        fields = new int[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i] = outcome.equals("invalid") && i % 2 == 0 ? -i - 1 : i;
+        }
+    }
+
+    static Result<Integer, String> validate(int field) {
+        return field < 0 ? failure("Negative field") : success(field & 0x7F);
+    }
+
+    @Benchmark
+    public Result<Integer, List<String>> handBuilt() {
+        final List<String> errors = new ArrayList<>();
+        int sum = 0;
+        for (int field : fields) {
+            final Result<Integer, String> result = validate(field);
+            if (result.hasFailure()) {
+                errors.add(result.getFailure().orElseThrow());
+            } else {
+                sum += result.orElse(0);
+            }
+        }
+        return errors.isEmpty() ? success(sum) : failure(errors);
+    }
+
+    @Benchmark
+    public Result<Integer, List<String>> validation() {
+        final Validation<String> validation = new Validation<>();
+        int sum = 0;
+        for (int field : fields) {
+            final Integer value = validation.check(validate(field));
+            sum += value == null ? 0 : value;
+        }
+        final int total = sum;
+        return validation.toResult(() -> total);
+    }
+
+    @Benchmark
+    public Result<Integer, List<String>> zip8() {
+        return Validation.zip8(validate(fields[0]), validate(fields[1]), validate(fields[2]), validate(fields[3]),
+                validate(fields[4]), validate(fields[5]), validate(fields[6]), validate(fields[7]),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+    }
+}
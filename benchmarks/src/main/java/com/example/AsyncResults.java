@@ -0,0 +1,107 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bridges results and {@link CompletableFuture}, so that many I/O-bound operations can run without blocking platform
+ * threads.
+ */
+final class AsyncResults {
+
+    private static final Executor VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private AsyncResults() {
+    }
+
+    /**
+     * Runs the callable on a new virtual thread.
+     *
+     * @see #ofCallable(Callable, Executor)
+     */
+    static <S> CompletableFuture<Result<S, Exception>> ofCallable(Callable<? extends S> callable) {
+        return ofCallable(callable, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs the callable on the given executor and completes with the same result as {@code Results.ofCallable}.
+     */
+    static <S> CompletableFuture<Result<S, Exception>> ofCallable(Callable<? extends S> callable, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> Results.ofCallable(callable), executor);
+    }
+
+    /**
+     * Transforms the success value of the eventual result.
+     */
+    static <S, F, S2> CompletableFuture<Result<S2, F>> thenMapSuccess(
+            CompletableFuture<? extends Result<S, F>> future, Function<? super S, ? extends S2> mapper) {
+        return future.thenApply(result -> result.mapSuccess(mapper));
+    }
+
+    /**
+     * Chains another asynchronous operation to the eventual result, if successful.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, F, S2> CompletableFuture<Result<S2, F>> thenFlatMap(
+            CompletableFuture<? extends Result<S, F>> future,
+            Function<? super S, ? extends CompletableFuture<? extends Result<? extends S2, ? extends F>>> mapper) {
+        return future.thenCompose(result -> result.hasSuccess()
+                ? mapper.apply(result.orElse(null)).thenApply(next -> (Result<S2, F>) next)
+                : CompletableFuture.completedFuture((Result<S2, F>) result));
+    }
+
+    /**
+     * Gathers all eventual results into one, holding either all success values in order or the first failure.
+     */
+    static <S, F> CompletableFuture<Result<List<S>, F>> allOf(
+            List<? extends CompletableFuture<? extends Result<S, F>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> BulkResults.traverse(futures, CompletableFuture::join));
+    }
+
+    /**
+     * Completes with the first successful result, or with the first failure in list order if none of them succeeds.
+     *
+     * <p>Futures completed exceptionally count as not successful. Only if all of them complete exceptionally, the
+     * returned future completes exceptionally too, with the exception of the first one.
+     *
+     * @throws IllegalArgumentException if there are no futures
+     */
+    static <S, F> CompletableFuture<Result<S, F>> anyOf(
+            List<? extends CompletableFuture<? extends Result<S, F>>> futures) {
+        if (futures.isEmpty()) {
+            throw new IllegalArgumentException("At least one future is required");
+        }
+        final CompletableFuture<Result<S, F>> any = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(futures.size());
+        for (CompletableFuture<? extends Result<S, F>> future : futures) {
+            future.whenComplete((result, exception) -> {
+                if (exception == null && result.hasSuccess()) {
+                    any.complete(result);
+                } else if (pending.decrementAndGet() == 0) {
+                    completeWithoutSuccess(any, futures);
+                }
+            });
+        }
+        return any;
+    }
+
+    private static <S, F> void completeWithoutSuccess(
+            CompletableFuture<Result<S, F>> any, List<? extends CompletableFuture<? extends Result<S, F>>> futures) {
+        for (CompletableFuture<? extends Result<S, F>> future : futures) {
+            if (!future.isCompletedExceptionally()) {
+                any.complete(future.join());
+                return;
+            }
+        }
+        any.completeExceptionally(futures.get(0).handle((result, exception) -> exception).join());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Bulk combinators that collapse many results into one, in a single pass over the input.
+ */
+final class BulkResults {
+
+    private BulkResults() {
+    }
+
+    /**
+     * Collects all success values, or returns the first failure found.
+     */
+    static <S, F> Result<List<S>, F> sequence(Iterable<? extends Result<? extends S, ? extends F>> results) {
+        final List<S> successes = results instanceof Collection<?> c ? new ArrayList<>(c.size()) : new ArrayList<>();
+        for (Result<? extends S, ? extends F> result : results) {
+            if (result.hasFailure()) {
+                return failure(result.getFailure().orElseThrow());
+            }
+            successes.add(result.orElse(null));
+        }
+        return success(successes);
+    }
+
+    /**
+     * Maps all items to results and collects their success values, or returns the first failure found.
+     *
+     * <p>Items after the first failure are not mapped.
+     */
+    static <T, S, F> Result<List<S>, F> traverse(
+            Collection<? extends T> items, Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        final List<S> successes = new ArrayList<>(items.size());
+        for (T item : items) {
+            final Result<? extends S, ? extends F> result = mapper.apply(item);
+            if (result.hasFailure()) {
+                return failure(result.getFailure().orElseThrow());
+            }
+            successes.add(result.orElse(null));
+        }
+        return success(successes);
+    }
+
+    /**
+     * Maps all items to results and collects their success values, or all failure values if there is at least one.
+     *
+     * <p>The list of failures is allocated only when the first failure is found.
+     */
+    static <T, S, F> Result<List<S>, List<F>> traverseAll(
+            Collection<? extends T> items, Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        final List<S> successes = new ArrayList<>(items.size());
+        List<F> failures = null;
+        for (T item : items) {
+            final Result<? extends S, ? extends F> result = mapper.apply(item);
+            if (result.hasSuccess()) {
+                successes.add(result.orElse(null));
+            } else {
+                if (failures == null) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(result.getFailure().orElseThrow());
+            }
+        }
+        return failures == null ? success(successes) : failure(failures);
+    }
+
+    /**
+     * Maps all items to results in parallel using the common fork-join pool.
+     *
+     * @see #parallelTraverse(List, Function, ForkJoinPool)
+     */
+    static <T, S, F> Result<List<S>, F> parallelTraverse(
+            List<? extends T> items, Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        return parallelTraverse(items, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Maps all items to results in parallel and collects their success values in input order, or returns the failure
+     * found at the lowest index.
+     *
+     * <p>Once an item fails, items after it are no longer mapped.
+     */
+    static <T, S, F> Result<List<S>, F> parallelTraverse(
+            List<? extends T> items,
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper,
+            ForkJoinPool pool) {
+        final Traversal<T, S, F> traversal = new Traversal<>(items, mapper, pool.getParallelism());
+        pool.invoke(traversal.new Task(0, items.size()));
+        return traversal.result();
+    }
+
+    /**
+     * Returns a collector of all success values, or the first failure found in encounter order.
+     */
+    static <S, F> Collector<Result<? extends S, ? extends F>, ?, Result<List<S>, F>> toResult() {
+        return Collector.of(Accumulator<S, F>::new, Accumulator::add, Accumulator::combine, Accumulator::finish);
+    }
+
+    private static final class Accumulator<S, F> {
+
+        final List<S> successes = new ArrayList<>();
+        F failure;
+
+        void add(Result<? extends S, ? extends F> result) {
+            if (failure != null) {
+                return;
+            }
+            if (result.hasFailure()) {
+                failure = result.getFailure().orElseThrow();
+            } else {
+                successes.add(result.orElse(null));
+            }
+        }
+
+        Accumulator<S, F> combine(Accumulator<S, F> other) {
+            if (failure == null) {
+                failure = other.failure;
+                successes.addAll(other.successes);
+            }
+            return this;
+        }
+
+        Result<List<S>, F> finish() {
+            return failure == null ? success(successes) : failure(failure);
+        }
+    }
+
+    private static final class Traversal<T, S, F> {
+
+        final List<? extends T> items;
+        final Function<? super T, ? extends Result<? extends S, ? extends F>> mapper;
+        final int threshold;
+        final Object[] values;
+        final AtomicInteger failedIndex = new AtomicInteger(Integer.MAX_VALUE);
+
+        Traversal(
+                List<? extends T> items,
+                Function<? super T, ? extends Result<? extends S, ? extends F>> mapper,
+                int parallelism) {
+            this.items = items;
+            this.mapper = mapper;
+            this.threshold = Math.max(1, items.size() / (parallelism * 4));
+            this.values = new Object[items.size()];
+        }
+
+        @SuppressWarnings("unchecked")
+        Result<List<S>, F> result() {
+            final int index = failedIndex.get();
+            return index == Integer.MAX_VALUE ? success(Arrays.asList((S[]) values)) : failure((F) values[index]);
+        }
+
+        final class Task extends RecursiveAction {
+
+            final int from;
+            final int to;
+
+            Task(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (from > failedIndex.get()) {
+                    return;
+                }
+                if (to - from > threshold) {
+                    final int middle = (from + to) >>> 1;
+                    invokeAll(new Task(from, middle), new Task(middle, to));
+                    return;
+                }
+                for (int i = from; i < to && i < failedIndex.get(); i++) {
+                    final Result<? extends S, ? extends F> result = mapper.apply(items.get(i));
+                    if (result.hasSuccess()) {
+                        values[i] = result.orElse(null);
+                    } else {
+                        values[i] = result.getFailure().orElseThrow();
+                        failedIndex.accumulateAndGet(i, Math::min);
+                    }
+                }
+            }
+        }
+    }
+}
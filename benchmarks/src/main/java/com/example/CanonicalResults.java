@@ -0,0 +1,159 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates results like {@link Results}, but returns canonical instances for common values, in the style of
+ * {@link Integer#valueOf(int)}.
+ *
+ * <p>Successful booleans, integers from -128 to 1023 (covering HTTP status codes), the empty string and {@link Unit}
+ * are cached, as well as failures holding an enum constant. Other failure values can be interned on demand. Results
+ * are immutable, so canonical instances are shared across threads.
+ *
+ * <p>Operations that return nothing succeed with {@link Unit#UNIT}, since {@link Void} has no instances and success
+ * values can't be {@code null}.
+ *
+ * <pre>{@code
+ * CanonicalResults.intern(404);
+ * Result<Pet, Integer> missing = CanonicalResults.ofNullable(findPet(id), 404);
+ * Result<Unit, Exception> saved = CanonicalResults.ofAction(() -> petStore.save(pet));
+ * }</pre>
+ */
+final class CanonicalResults {
+
+    /** The only success value of operations that return nothing */
+    enum Unit {
+        UNIT
+    }
+
+    /** Represents an operation that returns nothing and may throw */
+    @FunctionalInterface
+    interface Action {
+
+        void run() throws Exception;
+    }
+
+    static final int LOW = -128;
+    static final int HIGH = 1023;
+    static final int MAXIMUM_INTERNED = 1024;
+
+    private static final Result<?, ?> TRUE = Results.success(true);
+    private static final Result<?, ?> FALSE = Results.success(false);
+    private static final Result<?, ?> EMPTY = Results.success("");
+    private static final Result<?, ?> UNIT = Results.success(Unit.UNIT);
+    private static final Result<?, ?>[] INTEGERS = new Result<?, ?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = Results.success(LOW + i);
+        }
+    }
+
+    /* One failure per constant, indexed by ordinal */
+    private static final ClassValue<Result<?, ?>[]> ENUM_FAILURES = new ClassValue<>() {
+        @Override
+        protected Result<?, ?>[] computeValue(Class<?> type) {
+            final Object[] constants = type.getEnumConstants();
+            final Result<?, ?>[] failures = new Result<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                failures[i] = Results.failure(constants[i]);
+            }
+            return failures;
+        }
+    };
+
+    /* Only grows, up to MAXIMUM_INTERNED entries */
+    private static final ConcurrentMap<Object, Result<?, ?>> INTERNED = new ConcurrentHashMap<>();
+
+    private CanonicalResults() {
+    }
+
+    static <F> Result<Boolean, F> success(boolean value) {
+        return cast(value ? TRUE : FALSE);
+    }
+
+    /**
+     * Returns the canonical successful result of an operation that returns nothing.
+     */
+    static <F> Result<Unit, F> success() {
+        return cast(UNIT);
+    }
+
+    static <F> Result<Integer, F> success(int value) {
+        return value >= LOW && value <= HIGH ? cast(INTEGERS[value - LOW]) : Results.success(value);
+    }
+
+    /**
+     * Returns a canonical successful result if there is one for the given value, or a new one otherwise.
+     */
+    static <S, F> Result<S, F> success(S value) {
+        if (value instanceof Boolean b) {
+            return cast(b ? TRUE : FALSE);
+        }
+        if (value instanceof Integer i && i >= LOW && i <= HIGH) {
+            return cast(INTEGERS[i - LOW]);
+        }
+        if (value instanceof String s && s.isEmpty()) {
+            return cast(EMPTY);
+        }
+        if (value == Unit.UNIT) {
+            return cast(UNIT);
+        }
+        return Results.success(value);
+    }
+
+    /**
+     * Returns a canonical failed result if the value is an enum constant or has been interned, or a new one otherwise.
+     */
+    static <S, F> Result<S, F> failure(F value) {
+        if (value instanceof Enum<?> e) {
+            return cast(ENUM_FAILURES.get(e.getDeclaringClass())[e.ordinal()]);
+        }
+        final Result<?, ?> interned = INTERNED.get(Objects.requireNonNull(value));
+        return interned != null ? cast(interned) : Results.failure(value);
+    }
+
+    static <S, F> Result<S, F> ofNullable(S value, F failure) {
+        return value != null ? success(value) : failure(failure);
+    }
+
+    /**
+     * Runs the given action, returning the canonical {@link Unit} success if it completes, or a failure holding the
+     * exception it throws.
+     */
+    static Result<Unit, Exception> ofAction(Action action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            return Results.failure(e);
+        }
+        return success();
+    }
+
+    /**
+     * Registers a failure value so that failed results holding an equal value share the same instance from now on.
+     *
+     * <p>Interned values are never released, so this is meant for a small, fixed set of constants registered at
+     * startup, such as error codes. Values are compared with {@code equals}.
+     *
+     * @throws IllegalStateException if {@link #MAXIMUM_INTERNED} values are already interned
+     */
+    static void intern(Object failure) {
+        Objects.requireNonNull(failure);
+        if (!INTERNED.containsKey(failure) && INTERNED.size() >= MAXIMUM_INTERNED) {
+            throw new IllegalStateException("Too many interned failures: " + MAXIMUM_INTERNED);
+        }
+        INTERNED.computeIfAbsent(failure, Results::failure);
+    }
+
+    /* Safe because results are immutable and never expose the type parameter of the missing side */
+    @SuppressWarnings("unchecked")
+    private static <S, F> Result<S, F> cast(Result<?, ?> result) {
+        return (Result<S, F>) result;
+    }
+}
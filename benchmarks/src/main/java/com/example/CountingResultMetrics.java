@@ -0,0 +1,84 @@
+package com.example;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Counts successes and failures per call site and failure type, using striped counters.
+ *
+ * <p>Counters are looked up by call site and failure type, so recording a result allocates nothing once its counter
+ * exists.
+ */
+public final class CountingResultMetrics implements ResultMetrics {
+
+    /* Failure values are never null, so no failure type can be Void */
+    private static final Class<?> SUCCESS = Void.class;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, LongAdder>> sites = new ConcurrentHashMap<>();
+    private final List<BiConsumer<Key, Number>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onSuccess(String callSite) {
+        counter(callSite, SUCCESS).increment();
+    }
+
+    @Override
+    public void onFailure(String callSite, Class<?> failureType) {
+        counter(callSite, failureType).increment();
+    }
+
+    /**
+     * Returns the number of successes recorded for the given call site.
+     */
+    public long successes(String callSite) {
+        return sum(callSite, SUCCESS);
+    }
+
+    /**
+     * Returns the number of failures of the given type recorded for the given call site.
+     */
+    public long failures(String callSite, Class<?> failureType) {
+        return sum(callSite, failureType);
+    }
+
+    @Override
+    public void forEachCounter(BiConsumer<Key, Number> listener) {
+        listeners.add(listener);
+        sites.forEach((callSite, counters) -> counters.forEach((type, counter) ->
+                listener.accept(key(callSite, type), counter)));
+    }
+
+    private long sum(String callSite, Class<?> type) {
+        final ConcurrentHashMap<Class<?>, LongAdder> counters = sites.get(callSite);
+        final LongAdder counter = counters == null ? null : counters.get(type);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private LongAdder counter(String callSite, Class<?> type) {
+        ConcurrentHashMap<Class<?>, LongAdder> counters = sites.get(callSite);
+        if (counters == null) {
+            counters = sites.computeIfAbsent(callSite, ignored -> new ConcurrentHashMap<>());
+        }
+        final LongAdder counter = counters.get(type);
+        return counter != null ? counter : newCounter(counters, callSite, type);
+    }
+
+    /* Listeners may register meters or record results themselves, so they run outside of any mapping function */
+    private LongAdder newCounter(ConcurrentHashMap<Class<?>, LongAdder> counters, String callSite, Class<?> type) {
+        final LongAdder created = new LongAdder();
+        final LongAdder existing = counters.putIfAbsent(type, created);
+        if (existing != null) {
+            return existing;
+        }
+        final Key key = key(callSite, type);
+        listeners.forEach(listener -> listener.accept(key, created));
+        return created;
+    }
+
+    private static Key key(String callSite, Class<?> type) {
+        return new Key(callSite, type == SUCCESS ? null : type);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Result holding either a primitive {@code double} success value or a failure value, so numeric pipelines never box.
+ *
+ * <p>Like {@link java.util.OptionalDouble}, it mirrors a subset of {@link Result}. Operations that leave the result
+ * untouched return the same instance.
+ *
+ * <pre>{@code
+ * DoubleResult<String> days = IntResult.of(getServerUptime()).mapToDouble(x -> x / 86400.0);
+ * double value = days.orElse(Double.NaN);
+ * }</pre>
+ */
+final class DoubleResult<F> {
+
+    private final double value;
+    private final F failure;
+
+    private DoubleResult(double value, F failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <F> DoubleResult<F> success(double value) {
+        return new DoubleResult<>(value, null);
+    }
+
+    static <F> DoubleResult<F> failure(F failure) {
+        return new DoubleResult<>(0.0, Objects.requireNonNull(failure));
+    }
+
+    /**
+     * Unboxes the success value of the given result.
+     */
+    static <F> DoubleResult<F> of(Result<Double, F> result) {
+        return mapToDouble(result, Double::doubleValue);
+    }
+
+    /**
+     * Maps the success value of the given result to a primitive {@code double}.
+     */
+    static <S, F> DoubleResult<F> mapToDouble(Result<S, F> result, ToDoubleFunction<? super S> mapper) {
+        return result.hasSuccess()
+                ? success(mapper.applyAsDouble(result.orElse(null)))
+                : failure(result.getFailure().orElseThrow());
+    }
+
+    boolean hasSuccess() {
+        return failure == null;
+    }
+
+    boolean hasFailure() {
+        return failure != null;
+    }
+
+    Optional<F> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    double orElse(double other) {
+        return failure == null ? value : other;
+    }
+
+    double orElseMap(ToDoubleFunction<? super F> mapper) {
+        return failure == null ? value : mapper.applyAsDouble(failure);
+    }
+
+    DoubleResult<F> ifSuccess(DoubleConsumer action) {
+        if (failure == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    DoubleResult<F> filter(DoublePredicate isAcceptable, DoubleFunction<? extends F> mapper) {
+        return failure == null && !isAcceptable.test(value) ? failure(mapper.apply(value)) : this;
+    }
+
+    DoubleResult<F> recover(ToDoubleFunction<? super F> mapper) {
+        return failure == null ? this : success(mapper.applyAsDouble(failure));
+    }
+
+    DoubleResult<F> mapSuccess(DoubleUnaryOperator mapper) {
+        return failure == null ? success(mapper.applyAsDouble(value)) : this;
+    }
+
+    IntResult<F> mapToInt(DoubleToIntFunction mapper) {
+        return failure == null ? IntResult.success(mapper.applyAsInt(value)) : IntResult.failure(failure);
+    }
+
+    LongResult<F> mapToLong(DoubleToLongFunction mapper) {
+        return failure == null ? LongResult.success(mapper.applyAsLong(value)) : LongResult.failure(failure);
+    }
+
+    <S> Result<S, F> mapToObj(DoubleFunction<? extends S> mapper) {
+        return failure == null ? Results.success(mapper.apply(value)) : Results.failure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    <F2> DoubleResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return failure == null ? (DoubleResult<F2>) this : failure(mapper.apply(failure));
+    }
+
+    /**
+     * Boxes the success value into a regular result.
+     */
+    Result<Double, F> boxed() {
+        return failure == null ? Results.success(value) : Results.failure(failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "DoubleResult[" + value + "]" : "DoubleResult[failure=" + failure + "]";
+    }
+}
@@ -0,0 +1,129 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Result holding either a primitive {@code int} success value or a failure value, so numeric pipelines never box.
+ *
+ * <p>Like {@link java.util.OptionalInt}, it mirrors a subset of {@link Result}. Operations that leave the result
+ * untouched return the same instance.
+ *
+ * <pre>{@code
+ * IntResult<String> uptime = IntResult.of(getServerUptime()).mapSuccess(x -> x + 1);
+ * int value = uptime.orElse(-1);
+ * }</pre>
+ */
+final class IntResult<F> {
+
+    private final int value;
+    private final F failure;
+
+    private IntResult(int value, F failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <F> IntResult<F> success(int value) {
+        return new IntResult<>(value, null);
+    }
+
+    static <F> IntResult<F> failure(F failure) {
+        return new IntResult<>(0, Objects.requireNonNull(failure));
+    }
+
+    /**
+     * Unboxes the success value of the given result.
+     */
+    static <F> IntResult<F> of(Result<Integer, F> result) {
+        return mapToInt(result, Integer::intValue);
+    }
+
+    /**
+     * Maps the success value of the given result to a primitive {@code int}.
+     */
+    static <S, F> IntResult<F> mapToInt(Result<S, F> result, ToIntFunction<? super S> mapper) {
+        return result.hasSuccess()
+                ? success(mapper.applyAsInt(result.orElse(null)))
+                : failure(result.getFailure().orElseThrow());
+    }
+
+    boolean hasSuccess() {
+        return failure == null;
+    }
+
+    boolean hasFailure() {
+        return failure != null;
+    }
+
+    Optional<F> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    int orElse(int other) {
+        return failure == null ? value : other;
+    }
+
+    int orElseMap(ToIntFunction<? super F> mapper) {
+        return failure == null ? value : mapper.applyAsInt(failure);
+    }
+
+    IntResult<F> ifSuccess(IntConsumer action) {
+        if (failure == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    IntResult<F> filter(IntPredicate isAcceptable, IntFunction<? extends F> mapper) {
+        return failure == null && !isAcceptable.test(value) ? failure(mapper.apply(value)) : this;
+    }
+
+    IntResult<F> recover(ToIntFunction<? super F> mapper) {
+        return failure == null ? this : success(mapper.applyAsInt(failure));
+    }
+
+    IntResult<F> mapSuccess(IntUnaryOperator mapper) {
+        return failure == null ? success(mapper.applyAsInt(value)) : this;
+    }
+
+    LongResult<F> mapToLong(IntToLongFunction mapper) {
+        return failure == null ? LongResult.success(mapper.applyAsLong(value)) : LongResult.failure(failure);
+    }
+
+    DoubleResult<F> mapToDouble(IntToDoubleFunction mapper) {
+        return failure == null ? DoubleResult.success(mapper.applyAsDouble(value)) : DoubleResult.failure(failure);
+    }
+
+    <S> Result<S, F> mapToObj(IntFunction<? extends S> mapper) {
+        return failure == null ? Results.success(mapper.apply(value)) : Results.failure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    <F2> IntResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return failure == null ? (IntResult<F2>) this : failure(mapper.apply(failure));
+    }
+
+    /**
+     * Boxes the success value into a regular result.
+     */
+    Result<Integer, F> boxed() {
+        return failure == null ? Results.success(value) : Results.failure(failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "IntResult[" + value + "]" : "IntResult[failure=" + failure + "]";
+    }
+}
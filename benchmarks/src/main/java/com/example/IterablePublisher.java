@@ -0,0 +1,80 @@
+package com.example;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the elements of an iterable synchronously, in the thread that requests them, respecting demand.
+ */
+final class IterablePublisher<T> implements Flow.Publisher<T> {
+
+    private final Iterable<? extends T> items;
+
+    IterablePublisher(Iterable<? extends T> items) {
+        this.items = items;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, items.iterator()));
+    }
+
+    private static final class IteratorSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Iterator<? extends T> iterator;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        IteratorSubscription(Flow.Subscriber<? super T> subscriber, Iterator<? extends T> iterator) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            /* Only the caller that raises demand from zero emits; reentrant calls just add to it */
+            if (requested.getAndAccumulate(n, ResultFlows::addDemand) == 0) {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            long emitted = 0;
+            long demand = requested.get();
+            while (true) {
+                while (emitted != demand && !cancelled && iterator.hasNext()) {
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (!iterator.hasNext()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                demand = requested.get();
+                if (demand == emitted) {
+                    demand = requested.addAndGet(-emitted);
+                    if (demand == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+    }
+}
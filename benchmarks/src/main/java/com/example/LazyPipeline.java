@@ -0,0 +1,174 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Builds a lazy result out of a supplier and a chain of deferred operations, fused into one flat pipeline.
+ *
+ * <p>Instead of wrapping one lazy result inside another for every operation, the operations are recorded as a linked
+ * chain of stages, flattened into arrays and run in a single loop when the lazy result is finally evaluated.
+ * Intermediate values are not wrapped in results and the stack depth does not grow with the length of the chain.
+ *
+ * <pre>{@code
+ * Result<String, Exception> lazy = LazyPipeline.of(() -> expensiveCalculation(timesExecuted))
+ *     .filter(x -> x > 0, x -> new Exception("Not positive"))
+ *     .mapSuccess(Object::toString)
+ *     .toResult();
+ * }</pre>
+ *
+ * <p>Pipelines are immutable: every operation returns a new stage linked to the previous one, so several pipelines
+ * can branch from a common prefix and be shared across threads.
+ */
+final class LazyPipeline<S, F> {
+
+    private static final byte FILTER = 0;
+    private static final byte RECOVER = 1;
+    private static final byte MAP_SUCCESS = 2;
+    private static final byte MAP_FAILURE = 3;
+    private static final byte FLAT_MAP_SUCCESS = 4;
+    private static final byte FLAT_MAP_FAILURE = 5;
+    private static final byte FLAT_MAP = 6;
+
+    private final Supplier<? extends Result<?, ?>> supplier;
+    private final LazyPipeline<?, ?> previous;
+    private final byte operation;
+    private final Object function;
+    private final Object alternative;
+    private final int size;
+
+    private LazyPipeline(
+            Supplier<? extends Result<?, ?>> supplier, LazyPipeline<?, ?> previous,
+            byte operation, Object function, Object alternative, int size) {
+        this.supplier = supplier;
+        this.previous = previous;
+        this.operation = operation;
+        this.function = function;
+        this.alternative = alternative;
+        this.size = size;
+    }
+
+    static <S, F> LazyPipeline<S, F> of(Supplier<? extends Result<S, F>> supplier) {
+        return new LazyPipeline<>(supplier, null, (byte) -1, null, null, 0);
+    }
+
+    LazyPipeline<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        return add(FILTER, isAcceptable, mapper);
+    }
+
+    LazyPipeline<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        return add(RECOVER, isRecoverable, mapper);
+    }
+
+    <S2> LazyPipeline<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        return add(MAP_SUCCESS, mapper, null);
+    }
+
+    <F2> LazyPipeline<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return add(MAP_FAILURE, mapper, null);
+    }
+
+    <S2, F2> LazyPipeline<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return add(MAP_SUCCESS, successMapper, null).add(MAP_FAILURE, failureMapper, null);
+    }
+
+    <S2> LazyPipeline<S2, F> flatMapSuccess(Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        return add(FLAT_MAP_SUCCESS, mapper, null);
+    }
+
+    <F2> LazyPipeline<S, F2> flatMapFailure(Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        return add(FLAT_MAP_FAILURE, mapper, null);
+    }
+
+    <S2, F2> LazyPipeline<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        return add(FLAT_MAP, successMapper, failureMapper);
+    }
+
+    /**
+     * Returns a lazy result that runs the supplier and all the operations recorded so far, in a single pass.
+     */
+    Result<S, F> toResult() {
+        final byte[] operations = new byte[size];
+        final Object[] functions = new Object[size];
+        final Object[] alternatives = new Object[size];
+        for (LazyPipeline<?, ?> stage = this; stage.size > 0; stage = stage.previous) {
+            operations[stage.size - 1] = stage.operation;
+            functions[stage.size - 1] = stage.function;
+            alternatives[stage.size - 1] = stage.alternative;
+        }
+        final Fused<S, F> fused = new Fused<>(supplier, operations, functions, alternatives);
+        return LazyResults.ofSupplier(fused::run);
+    }
+
+    private <S2, F2> LazyPipeline<S2, F2> add(byte operation, Object function, Object alternative) {
+        return new LazyPipeline<>(supplier, this, operation, function, alternative, size + 1);
+    }
+
+    private record Fused<S, F>(
+            Supplier<? extends Result<?, ?>> supplier, byte[] operations, Object[] functions, Object[] alternatives) {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Result<S, F> run() {
+            final Result<?, ?> source = supplier.get();
+            boolean success = source.hasSuccess();
+            Object value = success ? source.orElse(null) : source.getFailure().orElseThrow();
+            boolean changed = false;
+            for (int i = 0; i < operations.length; i++) {
+                final Object function = functions[i];
+                Result<?, ?> next = null;
+                switch (operations[i]) {
+                    case FILTER -> {
+                        if (success && !((Predicate) function).test(value)) {
+                            value = ((Function) alternatives[i]).apply(value);
+                            success = false;
+                            changed = true;
+                        }
+                    }
+                    case RECOVER -> {
+                        if (!success && ((Predicate) function).test(value)) {
+                            value = ((Function) alternatives[i]).apply(value);
+                            success = true;
+                            changed = true;
+                        }
+                    }
+                    case MAP_SUCCESS -> {
+                        if (success) {
+                            value = ((Function) function).apply(value);
+                            changed = true;
+                        }
+                    }
+                    case MAP_FAILURE -> {
+                        if (!success) {
+                            value = ((Function) function).apply(value);
+                            changed = true;
+                        }
+                    }
+                    case FLAT_MAP_SUCCESS -> next = success ? (Result<?, ?>) ((Function) function).apply(value) : null;
+                    case FLAT_MAP_FAILURE -> next = success ? null : (Result<?, ?>) ((Function) function).apply(value);
+                    case FLAT_MAP ->
+                            next = (Result<?, ?>) ((Function) (success ? function : alternatives[i])).apply(value);
+                    default -> throw new IllegalStateException();
+                }
+                if (next != null) {
+                    success = next.hasSuccess();
+                    value = success ? next.orElse(null) : next.getFailure().orElseThrow();
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return (Result<S, F>) source;
+            }
+            return success ? success((S) value) : failure((F) value);
+        }
+    }
+}
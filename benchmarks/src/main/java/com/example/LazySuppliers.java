@@ -0,0 +1,109 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Memoizing suppliers with explicit concurrency semantics, meant to back lazy results shared by several threads.
+ *
+ * <p>A lazy result memoizes the result of its supplier on first access, so it never recomputes it per thread nor after
+ * it expires. To take advantage of {@link #perThread(Supplier)} or {@link #expiring(Supplier, Duration)}, share the
+ * supplier and create a new lazy result every time.
+ *
+ * <pre>{@code
+ * Supplier<Result<Rates, Exception>> rates = LazySuppliers.expiring(this::fetchRates, Duration.ofMinutes(1));
+ * Result<Price, Exception> price = LazyResults.ofSupplier(rates).mapSuccess(this::convert);
+ * }</pre>
+ */
+final class LazySuppliers {
+
+    private LazySuppliers() {
+    }
+
+    /**
+     * Returns a supplier that invokes the given one at most once and shares its result with every thread.
+     *
+     * <p>Once the result is published, reading it takes no locks.
+     */
+    static <S, F> Supplier<Result<S, F>> once(Supplier<? extends Result<S, F>> supplier) {
+        return new Once<>(supplier);
+    }
+
+    /**
+     * Returns a supplier that invokes the given one at most once per thread.
+     */
+    static <S, F> Supplier<Result<S, F>> perThread(Supplier<? extends Result<S, F>> supplier) {
+        return ThreadLocal.withInitial(supplier)::get;
+    }
+
+    /**
+     * Returns a supplier that shares the result of the given one with every thread, and invokes it again once the
+     * result is older than the given duration.
+     */
+    static <S, F> Supplier<Result<S, F>> expiring(Supplier<? extends Result<S, F>> supplier, Duration duration) {
+        return new Expiring<>(supplier, duration.toNanos(), System::nanoTime);
+    }
+
+    static final class Once<S, F> implements Supplier<Result<S, F>> {
+
+        private Supplier<? extends Result<S, F>> supplier;
+        private volatile Result<S, F> result;
+
+        Once(Supplier<? extends Result<S, F>> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public Result<S, F> get() {
+            Result<S, F> value = result;
+            if (value == null) {
+                synchronized (this) {
+                    value = result;
+                    if (value == null) {
+                        result = value = supplier.get();
+                        supplier = null;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    static final class Expiring<S, F> implements Supplier<Result<S, F>> {
+
+        private final Supplier<? extends Result<S, F>> supplier;
+        private final long duration;
+        private final LongSupplier clock;
+        private volatile Entry<S, F> entry;
+
+        Expiring(Supplier<? extends Result<S, F>> supplier, long duration, LongSupplier clock) {
+            this.supplier = supplier;
+            this.duration = duration;
+            this.clock = clock;
+        }
+
+        @Override
+        public Result<S, F> get() {
+            Entry<S, F> value = entry;
+            if (value == null || value.hasExpired(clock.getAsLong())) {
+                synchronized (this) {
+                    value = entry;
+                    if (value == null || value.hasExpired(clock.getAsLong())) {
+                        entry = value = new Entry<>(supplier.get(), clock.getAsLong() + duration);
+                    }
+                }
+            }
+            return value.result();
+        }
+
+        record Entry<S, F>(Result<S, F> result, long expiration) {
+
+            boolean hasExpired(long now) {
+                return now - expiration >= 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Captures exceptions as lightweight failures.
+ *
+ * <p>The stack trace of an exception is filled in when the exception is created, long before it is caught. Wrapping a
+ * task with {@link Results#ofCallable(Callable)} cannot avoid that cost; the task itself has to throw exceptions that
+ * don't fill in their stack traces, such as {@link StacklessException} or a pre-allocated instance. Then, the caught
+ * exception can be mapped to a failure constant so it can be discarded right away.
+ *
+ * <pre>{@code
+ * Result<String, CacheFailure> value = LightweightFailures.ofCallable(() -> cache.get(key), e -> CacheFailure.MISS);
+ * }</pre>
+ */
+final class LightweightFailures {
+
+    private LightweightFailures() {
+    }
+
+    /**
+     * Like {@link Results#ofCallable(Callable)}, mapping the exception thrown by the callable to a failure value.
+     */
+    static <S, F> Result<S, F> ofCallable(Callable<S> callable, Function<? super Exception, ? extends F> mapper) {
+        final S value;
+        try {
+            value = callable.call();
+        } catch (Exception e) {
+            return failure(mapper.apply(e));
+        }
+        return success(value);
+    }
+
+    /**
+     * An exception that doesn't fill in its stack trace, so it's cheap to create and throw.
+     *
+     * <p>Suppression is disabled too: exceptions added with {@link Throwable#addSuppressed(Throwable)} are discarded.
+     */
+    static class StacklessException extends Exception {
+
+        StacklessException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Result holding either a primitive {@code long} success value or a failure value, so numeric pipelines never box.
+ *
+ * <p>Like {@link java.util.OptionalLong}, it mirrors a subset of {@link Result}. Operations that leave the result
+ * untouched return the same instance.
+ *
+ * <pre>{@code
+ * LongResult<PetError> id = LongResult.of(getDefaultPetId()).mapSuccess(x -> x + 1);
+ * long value = id.orElse(-1L);
+ * }</pre>
+ */
+final class LongResult<F> {
+
+    private final long value;
+    private final F failure;
+
+    private LongResult(long value, F failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <F> LongResult<F> success(long value) {
+        return new LongResult<>(value, null);
+    }
+
+    static <F> LongResult<F> failure(F failure) {
+        return new LongResult<>(0, Objects.requireNonNull(failure));
+    }
+
+    /**
+     * Unboxes the success value of the given result.
+     */
+    static <F> LongResult<F> of(Result<Long, F> result) {
+        return mapToLong(result, Long::longValue);
+    }
+
+    /**
+     * Maps the success value of the given result to a primitive {@code long}.
+     */
+    static <S, F> LongResult<F> mapToLong(Result<S, F> result, ToLongFunction<? super S> mapper) {
+        return result.hasSuccess()
+                ? success(mapper.applyAsLong(result.orElse(null)))
+                : failure(result.getFailure().orElseThrow());
+    }
+
+    boolean hasSuccess() {
+        return failure == null;
+    }
+
+    boolean hasFailure() {
+        return failure != null;
+    }
+
+    Optional<F> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    long orElse(long other) {
+        return failure == null ? value : other;
+    }
+
+    long orElseMap(ToLongFunction<? super F> mapper) {
+        return failure == null ? value : mapper.applyAsLong(failure);
+    }
+
+    LongResult<F> ifSuccess(LongConsumer action) {
+        if (failure == null) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    LongResult<F> filter(LongPredicate isAcceptable, LongFunction<? extends F> mapper) {
+        return failure == null && !isAcceptable.test(value) ? failure(mapper.apply(value)) : this;
+    }
+
+    LongResult<F> recover(ToLongFunction<? super F> mapper) {
+        return failure == null ? this : success(mapper.applyAsLong(failure));
+    }
+
+    LongResult<F> mapSuccess(LongUnaryOperator mapper) {
+        return failure == null ? success(mapper.applyAsLong(value)) : this;
+    }
+
+    IntResult<F> mapToInt(LongToIntFunction mapper) {
+        return failure == null ? IntResult.success(mapper.applyAsInt(value)) : IntResult.failure(failure);
+    }
+
+    DoubleResult<F> mapToDouble(LongToDoubleFunction mapper) {
+        return failure == null ? DoubleResult.success(mapper.applyAsDouble(value)) : DoubleResult.failure(failure);
+    }
+
+    <S> Result<S, F> mapToObj(LongFunction<? extends S> mapper) {
+        return failure == null ? Results.success(mapper.apply(value)) : Results.failure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    <F2> LongResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return failure == null ? (LongResult<F2>) this : failure(mapper.apply(failure));
+    }
+
+    /**
+     * Boxes the success value into a regular result.
+     */
+    Result<Long, F> boxed() {
+        return failure == null ? Results.success(value) : Results.failure(failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "LongResult[" + value + "]" : "LongResult[failure=" + failure + "]";
+    }
+}
@@ -0,0 +1,65 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+
+/**
+ * Creates results like {@link Results} does, and reports them to {@link ResultMetrics} tagged by call site.
+ *
+ * <p>Metrics are disabled unless the {@code result.metrics} system property is set to {@code true} at startup. When
+ * disabled, the check folds into a constant and these methods cost the same as the ones in {@link Results}.
+ *
+ * <pre>{@code
+ * Result<Long, Exception> uptime = MeteredResults.ofCallable("uptime", this::getServerUptime);
+ * }</pre>
+ */
+public final class MeteredResults {
+
+    static final ResultMetrics METRICS = Boolean.getBoolean("result.metrics")
+            ? ServiceLoader.load(ResultMetrics.class).findFirst().orElseGet(CountingResultMetrics::new)
+            : null;
+
+    private MeteredResults() {
+    }
+
+    /**
+     * Returns the metrics results are reported to, or nothing if metrics are disabled.
+     */
+    public static Optional<ResultMetrics> metrics() {
+        return Optional.ofNullable(METRICS);
+    }
+
+    public static <S, F> Result<S, F> success(String callSite, S success) {
+        if (METRICS != null) {
+            METRICS.onSuccess(callSite);
+        }
+        return Results.success(success);
+    }
+
+    public static <S, F> Result<S, F> failure(String callSite, F failure) {
+        if (METRICS != null) {
+            METRICS.onFailure(callSite, failure.getClass());
+        }
+        return Results.failure(failure);
+    }
+
+    public static <S> Result<S, Exception> ofCallable(String callSite, Callable<S> callable) {
+        final Result<S, Exception> result = Results.ofCallable(callable);
+        if (METRICS != null) {
+            record(METRICS, callSite, result);
+        }
+        return result;
+    }
+
+    static void record(ResultMetrics metrics, String callSite, Result<?, ?> result) {
+        if (result.hasSuccess()) {
+            metrics.onSuccess(callSite);
+        } else {
+            metrics.onFailure(callSite, result.getFailure().orElseThrow().getClass());
+        }
+    }
+}
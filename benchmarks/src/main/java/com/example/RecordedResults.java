@@ -0,0 +1,118 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import com.leakyabstractions.result.lazy.LazyResults;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Creates results like {@link Results} and {@link LazyResults} do, and reports them to JDK Flight Recorder.
+ *
+ * <p>Events are enabled and configured through the recording settings, like any other JFR event. When a recording
+ * doesn't enable them, these methods cost the same as the ones they delegate to.
+ *
+ * <pre>{@code
+ * java -XX:StartFlightRecording:+com.example.SlowSupplier#threshold=50ms ...
+ * }</pre>
+ */
+final class RecordedResults {
+
+    private RecordedResults() {
+    }
+
+    /**
+     * Like {@link Results#ofCallable(Callable)}, emitting a {@code com.example.CallableFailure} event when the callable
+     * throws an exception.
+     */
+    static <S> Result<S, Exception> ofCallable(Callable<S> callable) {
+        final Result<S, Exception> result = Results.ofCallable(callable);
+        if (result.hasFailure()) {
+            final CallableFailure event = new CallableFailure();
+            if (event.isEnabled()) {
+                final Exception exception = result.getFailure().orElseThrow();
+                event.exceptionClass = exception.getClass();
+                event.message = exception.getMessage();
+                event.commit();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link LazyResults#ofSupplier(Supplier)}, emitting a {@code com.example.SlowSupplier} event when the
+     * supplier takes longer than the configured threshold.
+     */
+    static <S, F> Result<S, F> ofSupplier(Supplier<? extends Result<S, F>> supplier) {
+        return LazyResults.ofSupplier(() -> {
+            final SlowSupplier event = new SlowSupplier();
+            event.begin();
+            final Result<S, F> result = supplier.get();
+            event.end();
+            if (event.shouldCommit()) {
+                event.success = result.hasSuccess();
+                event.commit();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Like {@link Results#failure(Object)}, emitting a {@code com.example.FailureCreated} event with the stack trace
+     * of the caller.
+     */
+    static <S, F> Result<S, F> failure(F failure) {
+        final FailureCreated event = new FailureCreated();
+        if (event.isEnabled()) {
+            event.failureClass = failure.getClass();
+            event.commit();
+        }
+        return Results.failure(failure);
+    }
+
+    @Name("com.example.CallableFailure")
+    @Label("Callable Failure")
+    @Description("An exception captured as a failed result")
+    @Category("Result")
+    @StackTrace(false)
+    static final class CallableFailure extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+    }
+
+    @Name("com.example.SlowSupplier")
+    @Label("Slow Supplier")
+    @Description("A lazy result supplier that took longer than the threshold")
+    @Category("Result")
+    @StackTrace(false)
+    @Threshold("10 ms")
+    static final class SlowSupplier extends Event {
+
+        @Label("Success")
+        boolean success;
+    }
+
+    @Name("com.example.FailureCreated")
+    @Label("Failure Created")
+    @Description("A failed result, with the stack trace where it was created")
+    @Category("Result")
+    @Enabled(false)
+    static final class FailureCreated extends Event {
+
+        @Label("Failure Class")
+        Class<?> failureClass;
+    }
+}
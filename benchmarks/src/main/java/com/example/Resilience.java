@@ -0,0 +1,208 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.failure;
+
+/**
+ * Retries, timeouts and circuit breaking for operations that return results, driven by failure values instead of
+ * exceptions.
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = new CircuitBreaker(100, 0.5, 10, Duration.ofSeconds(30));
+ * Result<Server, String> server = Resilience.retry(
+ *     () -> breaker.call(Resilience.timeout(this::connect, Duration.ofSeconds(1), "Timeout"), "Circuit open"),
+ *     3, Duration.ofMillis(100), "Connection error"::equals);
+ * }</pre>
+ */
+final class Resilience {
+
+    /** Longest wait between two attempts, in nanoseconds */
+    static final long MAX_DELAY = TimeUnit.MINUTES.toNanos(1);
+
+    private Resilience() {
+    }
+
+    /**
+     * Invokes the supplier until it returns a success or a failure that is not retryable, or until the maximum number
+     * of attempts is reached. Waits between attempts, doubling the backoff every time up to {@link #MAX_DELAY}.
+     *
+     * <p>If the current thread is interrupted while waiting, the last failure is returned.
+     */
+    static <S, F> Result<S, F> retry(Supplier<? extends Result<S, F>> supplier, int maxAttempts, Duration backoff,
+            Predicate<? super F> isRetryable) {
+        long delay = Math.min(backoff.toNanos(), MAX_DELAY);
+        Result<S, F> result = supplier.get();
+        for (int attempt = 1; attempt < maxAttempts && result.hasFailure(); attempt++) {
+            if (!isRetryable.test(result.getFailure().orElseThrow())) {
+                break;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            delay = Math.min(delay << 1, MAX_DELAY);
+            result = supplier.get();
+        }
+        return result;
+    }
+
+    /**
+     * Returns a supplier that runs the given one in a new virtual thread, and returns the given failure if it doesn't
+     * finish in time. The virtual thread is interrupted when the timeout expires.
+     */
+    static <S, F> Supplier<Result<S, F>> timeout(
+            Supplier<? extends Result<S, F>> supplier, Duration timeout, F timeoutFailure) {
+        return () -> {
+            final FutureTask<Result<S, F>> task = new FutureTask<>(supplier::get);
+            Thread.ofVirtual().start(task);
+            try {
+                return task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                return failure(timeoutFailure);
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                Thread.currentThread().interrupt();
+                return failure(timeoutFailure);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            }
+        };
+    }
+
+    /**
+     * Stops invoking operations once too many of the most recent ones have failed.
+     *
+     * <p>Outcomes are recorded in a lock-free ring of the given size. When at least {@code minimumCalls} have been
+     * recorded and the ratio of failures reaches the threshold, the breaker opens and rejects every call. After the
+     * given wait, it lets a single trial call through: if it succeeds, the breaker closes again.
+     */
+    static final class CircuitBreaker {
+
+        static final int CLOSED = 0;
+        static final int OPEN = 1;
+        static final int HALF_OPEN = 2;
+
+        private static final int NONE = 0;
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private final AtomicIntegerArray window;
+        private final double failureRateThreshold;
+        private final int minimumCalls;
+        private final long waitDuration;
+        private final LongSupplier clock;
+        private final AtomicInteger state = new AtomicInteger(CLOSED);
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile long openUntil;
+
+        CircuitBreaker(int windowSize, double failureRateThreshold, int minimumCalls, Duration waitDuration) {
+            this(windowSize, failureRateThreshold, minimumCalls, waitDuration.toNanos(), System::nanoTime);
+        }
+
+        CircuitBreaker(int windowSize, double failureRateThreshold, int minimumCalls, long waitDuration,
+                LongSupplier clock) {
+            this.window = new AtomicIntegerArray(windowSize);
+            this.failureRateThreshold = failureRateThreshold;
+            this.minimumCalls = minimumCalls;
+            this.waitDuration = waitDuration;
+            this.clock = clock;
+        }
+
+        /**
+         * Invokes the supplier and records its outcome, or returns the given failure without invoking it if the
+         * breaker is open.
+         */
+        <S, F> Result<S, F> call(Supplier<? extends Result<S, F>> supplier, F openFailure) {
+            final int current = state.get();
+            if (current == HALF_OPEN || current == OPEN && !tryHalfOpen()) {
+                return failure(openFailure);
+            }
+            if (current == OPEN) {
+                return trial(supplier);
+            }
+            final Result<S, F> result = supplier.get();
+            if (record(result.hasFailure())) {
+                openUntil = clock.getAsLong() + waitDuration;
+                state.compareAndSet(CLOSED, OPEN);
+            }
+            return result;
+        }
+
+        int state() {
+            return state.get();
+        }
+
+        /**
+         * Returns the ratio of failures among the recorded outcomes.
+         */
+        double failureRate() {
+            final int recorded = Math.min(calls.get(), window.length());
+            return recorded == 0 ? 0.0 : (double) failures.get() / recorded;
+        }
+
+        /* Returns whether the breaker should open */
+        private boolean record(boolean failed) {
+            final int slot = Math.floorMod(next.getAndIncrement(), window.length());
+            final int previous = window.getAndSet(slot, failed ? FAILURE : SUCCESS);
+            final int delta = (failed ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+            final int totalFailures = delta == 0 ? failures.get() : failures.addAndGet(delta);
+            final int recorded = previous == NONE ? calls.incrementAndGet() : window.length();
+            return recorded >= minimumCalls && totalFailures >= failureRateThreshold * recorded;
+        }
+
+        /* Runs the single call let through while half-open; the circuit opens again unless it succeeds */
+        private <S, F> Result<S, F> trial(Supplier<? extends Result<S, F>> supplier) {
+            boolean succeeded = false;
+            try {
+                final Result<S, F> result = supplier.get();
+                succeeded = result.hasSuccess();
+                return result;
+            } finally {
+                if (succeeded) {
+                    reset();
+                    state.set(CLOSED);
+                } else {
+                    open();
+                }
+            }
+        }
+
+        /* Lets a single caller through once the wait is over */
+        private boolean tryHalfOpen() {
+            return clock.getAsLong() - openUntil >= 0 && state.compareAndSet(OPEN, HALF_OPEN);
+        }
+
+        private void open() {
+            openUntil = clock.getAsLong() + waitDuration;
+            state.set(OPEN);
+        }
+
+        private void reset() {
+            for (int i = 0; i < window.length(); i++) {
+                window.set(i, NONE);
+            }
+            calls.set(0);
+            failures.set(0);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leakyabstractions.result.api.Result;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a JSON array of results incrementally, so that only the elements being processed are kept in memory.
+ *
+ * <p>The object mapper must have a datatype module for Result registered. Streams must be closed to release the
+ * underlying input.
+ */
+final class ResultArrayReader {
+
+    private ResultArrayReader() {
+    }
+
+    /**
+     * Returns a lazily populated stream of the results contained in a JSON array.
+     */
+    static <S, F> Stream<Result<S, F>> stream(
+            ObjectMapper objectMapper, InputStream input, Class<S> successType, Class<F> failureType) {
+        final MappingIterator<Result<S, F>> iterator = iterator(objectMapper, input, successType, failureType);
+        return stream(iterator).onClose(() -> close(iterator));
+    }
+
+    /**
+     * Returns a lazily populated stream of chunks of up to {@code size} results contained in a JSON array.
+     *
+     * <p>Each chunk is read only when requested by the consumer.
+     */
+    static <S, F> Stream<List<Result<S, F>>> chunks(
+            ObjectMapper objectMapper, InputStream input, Class<S> successType, Class<F> failureType, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        final MappingIterator<Result<S, F>> iterator = iterator(objectMapper, input, successType, failureType);
+        return stream(new Iterator<List<Result<S, F>>>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<Result<S, F>> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<Result<S, F>> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                return chunk;
+            }
+        }).onClose(() -> close(iterator));
+    }
+
+    private static <S, F> MappingIterator<Result<S, F>> iterator(
+            ObjectMapper objectMapper, InputStream input, Class<S> successType, Class<F> failureType) {
+        final JavaType type = objectMapper.getTypeFactory()
+                .constructParametricType(Result.class, successType, failureType);
+        try {
+            return objectMapper.readerFor(type).readValues(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> Stream<T> stream(Iterator<T> iterator) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static void close(MappingIterator<?> iterator) {
+        try {
+            iterator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
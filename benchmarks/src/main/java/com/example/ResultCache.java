@@ -0,0 +1,179 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the results returned by a loader, keeping successes and failures for different amounts of time.
+ *
+ * <p>Failures that are exceptions, such as the ones captured by {@code Results.ofCallable}, are never cached.
+ * Concurrent requests for a key that is being loaded wait for that load instead of starting a new one.
+ *
+ * <p>Entries are spread over lock-striped segments, each one bounded and evicting its least recently used entries.
+ *
+ * <pre>{@code
+ * ResultCache<Long, Pet, PetError> cache = ResultCache.of(petStore::find, 10_000,
+ *     Duration.ofMinutes(5), Duration.ofSeconds(5));
+ * Result<Pet, PetError> pet = cache.get(id);
+ * }</pre>
+ */
+final class ResultCache<K, S, F> {
+
+    static final int SEGMENTS = 16;
+
+    private final Function<? super K, ? extends Result<S, F>> loader;
+    private final long successTtl;
+    private final long failureTtl;
+    private final LongSupplier clock;
+    private final Segment<K, S, F>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    ResultCache(Function<? super K, ? extends Result<S, F>> loader, int maximumSize, long successTtl, long failureTtl,
+            LongSupplier clock, int segments) {
+        if (Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("Segments must be a power of two: " + segments);
+        }
+        this.loader = loader;
+        this.successTtl = successTtl;
+        this.failureTtl = failureTtl;
+        this.clock = clock;
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment<>(Math.max(1, (maximumSize + segments - 1) / segments));
+        }
+    }
+
+    static <K, S, F> ResultCache<K, S, F> of(Function<? super K, ? extends Result<S, F>> loader, int maximumSize,
+            Duration successTtl, Duration failureTtl) {
+        return new ResultCache<>(loader, maximumSize, successTtl.toNanos(), failureTtl.toNanos(), System::nanoTime,
+                SEGMENTS);
+    }
+
+    /**
+     * Returns the cached result for the given key, loading it if absent or expired.
+     */
+    Result<S, F> get(K key) {
+        final Segment<K, S, F> segment = segmentFor(key);
+        Entry<S, F> entry;
+        final boolean loading;
+        synchronized (segment) {
+            entry = segment.get(key);
+            loading = entry == null || entry.hasExpired(clock.getAsLong());
+            if (loading) {
+                entry = new Entry<>();
+                segment.put(key, entry);
+            }
+        }
+        if (loading) {
+            misses.increment();
+            load(key, segment, entry);
+        } else {
+            hits.increment();
+        }
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Discards the cached result for the given key, if any.
+     */
+    void invalidate(K key) {
+        final Segment<K, S, F> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including the ones being loaded.
+     */
+    int size() {
+        int size = 0;
+        for (Segment<K, S, F> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the ratio of requests that were served without loading.
+     */
+    double hitRate() {
+        final long hits = this.hits.sum();
+        final long total = hits + misses.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    private void load(K key, Segment<K, S, F> segment, Entry<S, F> entry) {
+        final Result<S, F> result;
+        try {
+            result = loader.apply(key);
+        } catch (Throwable e) {
+            /* Any loader exception, including errors, must release the requests waiting for this entry */
+            synchronized (segment) {
+                segment.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+        final long ttl = result.hasSuccess() ? successTtl
+                : result.getFailure().orElseThrow() instanceof Throwable ? 0 : failureTtl;
+        synchronized (segment) {
+            if (ttl > 0) {
+                entry.expiration = clock.getAsLong() + ttl;
+            } else {
+                segment.remove(key, entry);
+            }
+        }
+        entry.future.complete(result);
+    }
+
+    private Segment<K, S, F> segmentFor(K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /* Guarded by the segment that holds it */
+    private static final class Entry<S, F> {
+
+        final CompletableFuture<Result<S, F>> future = new CompletableFuture<>();
+        long expiration = Long.MAX_VALUE;
+
+        boolean hasExpired(long now) {
+            return expiration != Long.MAX_VALUE && now - expiration >= 0;
+        }
+    }
+
+    private static final class Segment<K, S, F> extends LinkedHashMap<K, Entry<S, F>> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<S, F>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
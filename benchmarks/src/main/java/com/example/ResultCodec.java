@@ -0,0 +1,283 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.nio.ByteBuffer;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary codec for results: a one-byte discriminator followed by the success or failure value.
+ *
+ * <p>Values are read straight from the given {@link ByteBuffer}, which may be a direct or memory-mapped buffer. Buffers
+ * are read and written from their current position, which is advanced past the encoded result.
+ *
+ * <p>{@link #ofInt(ValueCodec)} and {@link #ofLong(ValueCodec)} read and write primitive results in the same format,
+ * without boxing.
+ */
+final class ResultCodec<S, F> {
+
+    static final byte SUCCESS = 0;
+    static final byte FAILURE = 1;
+
+    /**
+     * Encodes and decodes values of a given type.
+     */
+    interface ValueCodec<T> {
+
+        int size(T value);
+
+        void write(T value, ByteBuffer buffer);
+
+        T read(ByteBuffer buffer);
+    }
+
+    static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<>() {
+
+        @Override
+        public int size(Boolean value) {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public void write(Boolean value, ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean read(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+
+    static final ValueCodec<Integer> INT = new ValueCodec<>() {
+
+        @Override
+        public int size(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    static final ValueCodec<Long> LONG = new ValueCodec<>() {
+
+        @Override
+        public int size(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    static final ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+
+        @Override
+        public int size(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    /* Length-prefixed UTF-8, with unpaired surrogates replaced by '?' like String.getBytes does */
+    static final ValueCodec<String> STRING = new ValueCodec<>() {
+
+        @Override
+        public int size(String value) {
+            int length = value.length();
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 2;
+                    i++;
+                } else if (c >= 0x800 && !Character.isSurrogate(c)) {
+                    length += 2;
+                } else if (c >= 0x80 && c < 0x800) {
+                    length++;
+                }
+            }
+            return Integer.BYTES + length;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            final byte[] bytes = value.getBytes(UTF_8);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            final String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            } else {
+                final byte[] bytes = new byte[length];
+                buffer.get(buffer.position(), bytes);
+                value = new String(bytes, UTF_8);
+            }
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    };
+
+    private final ValueCodec<S> successCodec;
+    private final ValueCodec<F> failureCodec;
+
+    private ResultCodec(ValueCodec<S> successCodec, ValueCodec<F> failureCodec) {
+        this.successCodec = successCodec;
+        this.failureCodec = failureCodec;
+    }
+
+    static <S, F> ResultCodec<S, F> of(ValueCodec<S> successCodec, ValueCodec<F> failureCodec) {
+        return new ResultCodec<>(successCodec, failureCodec);
+    }
+
+    /**
+     * Returns the number of bytes needed to encode the given result.
+     */
+    int size(Result<S, F> result) {
+        return Byte.BYTES + (result.hasSuccess()
+                ? successCodec.size(result.orElse(null))
+                : failureCodec.size(result.getFailure().orElseThrow()));
+    }
+
+    void write(Result<S, F> result, ByteBuffer buffer) {
+        if (result.hasSuccess()) {
+            successCodec.write(result.orElse(null), buffer.put(SUCCESS));
+        } else {
+            failureCodec.write(result.getFailure().orElseThrow(), buffer.put(FAILURE));
+        }
+    }
+
+    Result<S, F> read(ByteBuffer buffer) {
+        final byte discriminator = buffer.get();
+        return switch (discriminator) {
+            case SUCCESS -> success(successCodec.read(buffer));
+            case FAILURE -> failure(failureCodec.read(buffer));
+            default -> throw new IllegalArgumentException("Unknown discriminator: " + discriminator);
+        };
+    }
+
+    byte[] encode(Result<S, F> result) {
+        final ByteBuffer buffer = ByteBuffer.allocate(size(result));
+        write(result, buffer);
+        return buffer.array();
+    }
+
+    Result<S, F> decode(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Returns a codec for results holding a primitive {@code int}, compatible with {@code ResultCodec.of(INT, ...)}.
+     */
+    static <F> IntCodec<F> ofInt(ValueCodec<F> failureCodec) {
+        return new IntCodec<>(failureCodec);
+    }
+
+    /**
+     * Returns a codec for results holding a primitive {@code long}, compatible with {@code ResultCodec.of(LONG, ...)}.
+     */
+    static <F> LongCodec<F> ofLong(ValueCodec<F> failureCodec) {
+        return new LongCodec<>(failureCodec);
+    }
+
+    /**
+     * Reads and writes {@link IntResult} without boxing the success value.
+     */
+    static final class IntCodec<F> {
+
+        private final ValueCodec<F> failureCodec;
+
+        private IntCodec(ValueCodec<F> failureCodec) {
+            this.failureCodec = failureCodec;
+        }
+
+        int size(IntResult<F> result) {
+            return Byte.BYTES + (result.hasSuccess()
+                    ? Integer.BYTES
+                    : failureCodec.size(result.getFailure().orElseThrow()));
+        }
+
+        void write(IntResult<F> result, ByteBuffer buffer) {
+            if (result.hasSuccess()) {
+                buffer.put(SUCCESS).putInt(result.orElse(0));
+            } else {
+                failureCodec.write(result.getFailure().orElseThrow(), buffer.put(FAILURE));
+            }
+        }
+
+        IntResult<F> read(ByteBuffer buffer) {
+            final byte discriminator = buffer.get();
+            return switch (discriminator) {
+                case SUCCESS -> IntResult.success(buffer.getInt());
+                case FAILURE -> IntResult.failure(failureCodec.read(buffer));
+                default -> throw new IllegalArgumentException("Unknown discriminator: " + discriminator);
+            };
+        }
+    }
+
+    /**
+     * Reads and writes {@link LongResult} without boxing the success value.
+     */
+    static final class LongCodec<F> {
+
+        private final ValueCodec<F> failureCodec;
+
+        private LongCodec(ValueCodec<F> failureCodec) {
+            this.failureCodec = failureCodec;
+        }
+
+        int size(LongResult<F> result) {
+            return Byte.BYTES + (result.hasSuccess()
+                    ? Long.BYTES
+                    : failureCodec.size(result.getFailure().orElseThrow()));
+        }
+
+        void write(LongResult<F> result, ByteBuffer buffer) {
+            if (result.hasSuccess()) {
+                buffer.put(SUCCESS).putLong(result.orElse(0L));
+            } else {
+                failureCodec.write(result.getFailure().orElseThrow(), buffer.put(FAILURE));
+            }
+        }
+
+        LongResult<F> read(ByteBuffer buffer) {
+            final byte discriminator = buffer.get();
+            return switch (discriminator) {
+                case SUCCESS -> LongResult.success(buffer.getLong());
+                case FAILURE -> LongResult.failure(failureCodec.read(buffer));
+                default -> throw new IllegalArgumentException("Unknown discriminator: " + discriminator);
+            };
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Operators for {@link Flow.Publisher publishers} of results.
+ *
+ * <p>All operators respect downstream demand and deliver values directly, without creating a stream per element.
+ *
+ * <pre>{@code
+ * ResultFlows.split(ResultFlows.mapSuccess(events, Event::payload), payloadSubscriber, errorSubscriber);
+ * }</pre>
+ */
+final class ResultFlows {
+
+    private ResultFlows() {
+    }
+
+    /**
+     * Returns a publisher that transforms the success value of every result published by the given one.
+     */
+    static <S, F, S2> Flow.Publisher<Result<S2, F>> mapSuccess(
+            Flow.Publisher<? extends Result<S, F>> source, Function<? super S, ? extends S2> mapper) {
+        return subscriber -> source.subscribe(new MapSubscriber<>(subscriber, result -> result.mapSuccess(mapper)));
+    }
+
+    /**
+     * Returns a publisher that replaces every result published by the given one with a new result.
+     */
+    static <S, F, S2, F2> Flow.Publisher<Result<S2, F2>> flatMap(
+            Flow.Publisher<? extends Result<S, F>> source,
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        return subscriber -> source.subscribe(
+                new MapSubscriber<>(subscriber, result -> result.<S2, F2>flatMap(successMapper, failureMapper)));
+    }
+
+    /**
+     * Returns a publisher that groups the elements published by the given one into lists of the given size.
+     *
+     * <p>The last list may be shorter. Each list requested downstream requests {@code size} elements upstream.
+     */
+    static <T> Flow.Publisher<List<T>> batch(Flow.Publisher<? extends T> source, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Non-positive batch size: " + size);
+        }
+        return subscriber -> source.subscribe(new BatchSubscriber<>(subscriber, size));
+    }
+
+    /**
+     * Subscribes to the given publisher, sending success values to one subscriber and failure values to the other.
+     *
+     * <p>Results are requested upstream only as long as both subscribers can take them. A subscriber that cancels its
+     * subscription stops receiving values; the upstream subscription is cancelled once both have.
+     */
+    static <S, F> void split(Flow.Publisher<? extends Result<S, F>> source,
+            Flow.Subscriber<? super S> successes, Flow.Subscriber<? super F> failures) {
+        source.subscribe(new SplitSubscriber<>(successes, failures));
+    }
+
+    /* Adds demand, capping it at Long.MAX_VALUE */
+    static long addDemand(long current, long n) {
+        final long sum = current + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static final class MapSubscriber<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super R> downstream;
+        private final Function<? super T, ? extends R> mapper;
+        private Flow.Subscription upstream;
+        private boolean done;
+
+        MapSubscriber(Flow.Subscriber<? super R> downstream, Function<? super T, ? extends R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            final R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    private static final class BatchSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<T>> downstream;
+        private final int size;
+        private Flow.Subscription upstream;
+        private List<T> batch;
+
+        BatchSubscriber(Flow.Subscriber<? super List<T>> downstream, int size) {
+            this.downstream = downstream;
+            this.size = size;
+            this.batch = new ArrayList<>(size);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            batch.add(item);
+            if (batch.size() == size) {
+                final List<T> full = batch;
+                batch = new ArrayList<>(size);
+                downstream.onNext(full);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            batch = null;
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!batch.isEmpty()) {
+                downstream.onNext(batch);
+            }
+            batch = null;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n <= 0 ? n : n > Long.MAX_VALUE / size ? Long.MAX_VALUE : n * size);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    private static final class SplitSubscriber<S, F> implements Flow.Subscriber<Result<S, F>> {
+
+        private final Side<S> successes;
+        private final Side<F> failures;
+        private Flow.Subscription upstream;
+        private long outstanding;
+
+        SplitSubscriber(Flow.Subscriber<? super S> successes, Flow.Subscriber<? super F> failures) {
+            this.successes = new Side<>(this, successes);
+            this.failures = new Side<>(this, failures);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            successes.subscriber.onSubscribe(successes);
+            failures.subscriber.onSubscribe(failures);
+        }
+
+        @Override
+        public void onNext(Result<S, F> item) {
+            final boolean success = item.hasSuccess();
+            final Side<?> side = success ? successes : failures;
+            synchronized (this) {
+                if (outstanding != Long.MAX_VALUE) {
+                    outstanding--;
+                }
+                if (side.demand != Long.MAX_VALUE) {
+                    side.demand--;
+                }
+            }
+            if (!side.cancelled) {
+                if (success) {
+                    successes.subscriber.onNext(item.orElse(null));
+                } else {
+                    failures.subscriber.onNext(item.getFailure().orElseThrow());
+                }
+            }
+            replenish();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!successes.cancelled) {
+                successes.subscriber.onError(throwable);
+            }
+            if (!failures.cancelled) {
+                failures.subscriber.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!successes.cancelled) {
+                successes.subscriber.onComplete();
+            }
+            if (!failures.cancelled) {
+                failures.subscriber.onComplete();
+            }
+        }
+
+        /* Keeps upstream demand within the demand of both sides, since any result may go to either of them */
+        void replenish() {
+            final long n;
+            synchronized (this) {
+                final long limit = Math.min(successes.demand, failures.demand);
+                if (limit == Long.MAX_VALUE) {
+                    n = outstanding == Long.MAX_VALUE ? 0 : Long.MAX_VALUE;
+                    outstanding = Long.MAX_VALUE;
+                } else {
+                    n = limit - outstanding;
+                    if (n > 0) {
+                        outstanding = limit;
+                    }
+                }
+            }
+            if (n > 0) {
+                upstream.request(n);
+            }
+        }
+
+        void cancelled() {
+            final boolean both;
+            synchronized (this) {
+                both = successes.cancelled && failures.cancelled;
+            }
+            if (both) {
+                upstream.cancel();
+            } else {
+                replenish();
+            }
+        }
+    }
+
+    private static final class Side<T> implements Flow.Subscription {
+
+        private final SplitSubscriber<?, ?> parent;
+        private final Flow.Subscriber<? super T> subscriber;
+        private long demand;
+        private volatile boolean cancelled;
+
+        Side(SplitSubscriber<?, ?> parent, Flow.Subscriber<? super T> subscriber) {
+            this.parent = parent;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            synchronized (parent) {
+                demand = addDemand(demand, n);
+            }
+            parent.replenish();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (parent) {
+                cancelled = true;
+                demand = Long.MAX_VALUE;
+            }
+            parent.cancelled();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Receives a notification for every result created through {@link MeteredResults}.
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader} when the {@code result.metrics} system
+ * property is set to {@code true}, so they can live in any package as long as they are listed in
+ * {@code META-INF/services/com.example.ResultMetrics}. If none is found, {@link CountingResultMetrics} is used.
+ *
+ * <p>Methods are invoked on the thread that creates the result, so they should be cheap and must not block.
+ */
+public interface ResultMetrics {
+
+    /** Identifies a counter */
+    record Key(String callSite, Class<?> failureType) {
+
+        public boolean isSuccess() {
+            return failureType == null;
+        }
+    }
+
+    void onSuccess(String callSite);
+
+    void onFailure(String callSite, Class<?> failureType);
+
+    /**
+     * Invokes the given listener for every existing counter, and for every counter created from now on.
+     *
+     * <p>Counters are live numbers that keep growing as results are recorded. Implementations that keep no counters
+     * never invoke the listener.
+     */
+    default void forEachCounter(BiConsumer<Key, Number> listener) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the counters of a {@link ResultMetrics} as Micrometer {@code results} counters, tagged by call site, outcome
+ * and failure type.
+ *
+ * <pre>{@code
+ * MeteredResults.metrics().map(ResultMetricsBinder::new).ifPresent(binder -> binder.bindTo(registry));
+ * }</pre>
+ */
+public final class ResultMetricsBinder implements MeterBinder {
+
+    private final ResultMetrics metrics;
+
+    public ResultMetricsBinder(ResultMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        metrics.forEachCounter((key, counter) -> FunctionCounter.builder("results", counter, Number::doubleValue)
+                .description("Results created")
+                .tag("site", key.callSite())
+                .tag("outcome", key.isSuccess() ? "success" : "failure")
+                .tag("failure", key.isSuccess() ? "none" : key.failureType().getName())
+                .register(registry));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A mutable holder for either a success or a failure value, meant to be reused by a single thread instead of creating
+ * a new result for every event.
+ *
+ * <p>Slots expose the read operations of {@link Result}. Transformations write into a target slot, which may be the
+ * same one. When the value must outlive the current iteration, {@link #freeze()} copies it into an immutable result.
+ *
+ * <pre>{@code
+ * ResultSlot<Quote, String> quote = new ResultSlot<>();
+ * ResultSlot<Long, String> price = new ResultSlot<>();
+ * for (Event event : events) {
+ *     parse(event, quote).mapSuccess(Quote::price, price).ifSuccessOrElse(book::update, log::warn);
+ * }
+ * }</pre>
+ *
+ * <p>Slots are not thread-safe.
+ */
+final class ResultSlot<S, F> {
+
+    private static final byte EMPTY = 0;
+    private static final byte SUCCESS = 1;
+    private static final byte FAILURE = 2;
+
+    private byte state;
+    private Object value;
+
+    ResultSlot<S, F> success(S success) {
+        state = SUCCESS;
+        value = success;
+        return this;
+    }
+
+    ResultSlot<S, F> failure(F failure) {
+        state = FAILURE;
+        value = failure;
+        return this;
+    }
+
+    /**
+     * Copies the given result into this slot.
+     */
+    ResultSlot<S, F> set(Result<? extends S, ? extends F> result) {
+        return result.hasSuccess() ? success(result.orElse(null)) : failure(result.getFailure().orElseThrow());
+    }
+
+    /**
+     * Empties this slot, releasing its value.
+     */
+    void clear() {
+        state = EMPTY;
+        value = null;
+    }
+
+    boolean hasSuccess() {
+        return check() == SUCCESS;
+    }
+
+    boolean hasFailure() {
+        return check() == FAILURE;
+    }
+
+    @SuppressWarnings("unchecked")
+    S orElse(S other) {
+        return check() == SUCCESS ? (S) value : other;
+    }
+
+    @SuppressWarnings("unchecked")
+    S orElseMap(Function<? super F, ? extends S> mapper) {
+        return check() == SUCCESS ? (S) value : mapper.apply((F) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    ResultSlot<S, F> ifSuccess(Consumer<? super S> action) {
+        if (check() == SUCCESS) {
+            action.accept((S) value);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    ResultSlot<S, F> ifFailure(Consumer<? super F> action) {
+        if (check() == FAILURE) {
+            action.accept((F) value);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    ResultSlot<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        if (check() == SUCCESS) {
+            successAction.accept((S) value);
+        } else {
+            failureAction.accept((F) value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the transformed success value, or the same failure value, into the target slot and returns it.
+     */
+    @SuppressWarnings("unchecked")
+    <S2> ResultSlot<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper, ResultSlot<S2, F> target) {
+        return check() == SUCCESS ? target.success(mapper.apply((S) value)) : target.failure((F) value);
+    }
+
+    /**
+     * Writes the same success value, or the transformed failure value, into the target slot and returns it.
+     */
+    @SuppressWarnings("unchecked")
+    <F2> ResultSlot<S, F2> mapFailure(Function<? super F, ? extends F2> mapper, ResultSlot<S, F2> target) {
+        return check() == SUCCESS ? target.success((S) value) : target.failure(mapper.apply((F) value));
+    }
+
+    /**
+     * Returns an immutable result holding the current value of this slot.
+     */
+    @SuppressWarnings("unchecked")
+    Result<S, F> freeze() {
+        return check() == SUCCESS ? Results.success((S) value) : Results.failure((F) value);
+    }
+
+    private byte check() {
+        if (state == EMPTY) {
+            throw new IllegalStateException("Empty slot");
+        }
+        return state;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Extracts success or failure values from many results, without creating a stream for each result.
+ *
+ * <pre>{@code
+ * List<Integer> successes = ResultValues.successes(results, new ArrayList<>(results.size()));
+ * long total = StreamSupport.stream(ResultValues.successSpliterator(results), true).mapToLong(x -> x).sum();
+ * }</pre>
+ */
+final class ResultValues {
+
+    private ResultValues() {
+    }
+
+    /**
+     * Passes the success value of every successful result to the given sink.
+     */
+    static <S> void forEachSuccess(Iterable<? extends Result<? extends S, ?>> results, Consumer<? super S> sink) {
+        for (Result<? extends S, ?> result : results) {
+            result.ifSuccess(sink);
+        }
+    }
+
+    /**
+     * Passes the success value of every successful result to the given sink.
+     */
+    static <S> void forEachSuccess(Result<? extends S, ?>[] results, Consumer<? super S> sink) {
+        for (Result<? extends S, ?> result : results) {
+            result.ifSuccess(sink);
+        }
+    }
+
+    /**
+     * Passes the failure value of every failed result to the given sink.
+     */
+    static <F> void forEachFailure(Iterable<? extends Result<?, ? extends F>> results, Consumer<? super F> sink) {
+        for (Result<?, ? extends F> result : results) {
+            result.ifFailure(sink);
+        }
+    }
+
+    /**
+     * Passes the failure value of every failed result to the given sink.
+     */
+    static <F> void forEachFailure(Result<?, ? extends F>[] results, Consumer<? super F> sink) {
+        for (Result<?, ? extends F> result : results) {
+            result.ifFailure(sink);
+        }
+    }
+
+    /**
+     * Adds the success value of every successful result to the given collection, and returns it.
+     */
+    static <S, C extends Collection<? super S>> C successes(
+            Iterable<? extends Result<? extends S, ?>> results, C target) {
+        forEachSuccess(results, target::add);
+        return target;
+    }
+
+    /**
+     * Adds the failure value of every failed result to the given collection, and returns it.
+     */
+    static <F, C extends Collection<? super F>> C failures(
+            Iterable<? extends Result<?, ? extends F>> results, C target) {
+        forEachFailure(results, target::add);
+        return target;
+    }
+
+    /**
+     * Returns a spliterator over the success values of the given results, which splits evenly for parallel streams.
+     */
+    static <S> Spliterator<S> successSpliterator(List<? extends Result<? extends S, ?>> results) {
+        return new ValueSpliterator<>(results, true, 0, results.size());
+    }
+
+    /**
+     * Returns a spliterator over the failure values of the given results, which splits evenly for parallel streams.
+     */
+    static <F> Spliterator<F> failureSpliterator(List<? extends Result<?, ? extends F>> results) {
+        return new ValueSpliterator<>(results, false, 0, results.size());
+    }
+
+    /* Splits by index, so the list should support fast random access */
+    private static final class ValueSpliterator<T> implements Spliterator<T> {
+
+        private final List<? extends Result<?, ?>> results;
+        private final boolean success;
+        private int index;
+        private final int end;
+
+        ValueSpliterator(List<? extends Result<?, ?>> results, boolean success, int index, int end) {
+            this.results = results;
+            this.success = success;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (index < end) {
+                final Result<?, ?> result = results.get(index++);
+                if (success == result.hasSuccess()) {
+                    accept(result, action);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = index; i < end; i++) {
+                accept(results.get(i), action);
+            }
+            index = end;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void accept(Result result, Consumer<? super T> action) {
+            if (success) {
+                result.ifSuccess(action);
+            } else {
+                result.ifFailure(action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int middle = (index + end) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final Spliterator<T> prefix = new ValueSpliterator<>(results, success, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+}
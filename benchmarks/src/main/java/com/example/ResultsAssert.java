@@ -0,0 +1,119 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Fluent assertions over many results at once.
+ *
+ * <p>Results are scanned in a single pass without creating an assertion object per element. Descriptions are built
+ * only for the first offending results; the rest are just counted.
+ *
+ * <pre>{@code
+ * assertThatResults(results).allHaveSuccess();
+ * assertThatResults(results).reportingAtMost(3).failuresSatisfy(f -> assertThat(f).startsWith("Invalid"));
+ * }</pre>
+ */
+final class ResultsAssert<S, F> extends AbstractAssert<ResultsAssert<S, F>, Iterable<? extends Result<S, F>>> {
+
+    static final int DEFAULT_REPORTED = 10;
+
+    private int reported = DEFAULT_REPORTED;
+
+    private ResultsAssert(Iterable<? extends Result<S, F>> actual) {
+        super(actual, ResultsAssert.class);
+    }
+
+    static <S, F> ResultsAssert<S, F> assertThatResults(Iterable<? extends Result<S, F>> actual) {
+        return new ResultsAssert<>(actual);
+    }
+
+    /**
+     * Creates assertions over the given stream, which can only be verified once.
+     */
+    static <S, F> ResultsAssert<S, F> assertThatResults(Stream<? extends Result<S, F>> actual) {
+        return new ResultsAssert<>(actual == null ? null : iterable(actual));
+    }
+
+    /**
+     * Limits the number of offending results described in the error message.
+     *
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    ResultsAssert<S, F> reportingAtMost(int reported) {
+        if (reported < 0) {
+            throw new IllegalArgumentException("Reported results can't be negative: " + reported);
+        }
+        this.reported = reported;
+        return myself;
+    }
+
+    ResultsAssert<S, F> allHaveSuccess() {
+        return check("have success", true, null);
+    }
+
+    ResultsAssert<S, F> allHaveFailure() {
+        return check("have failure", false, null);
+    }
+
+    /**
+     * Verifies that the success value of every successful result satisfies the given requirements.
+     */
+    ResultsAssert<S, F> successesSatisfy(Consumer<? super S> requirements) {
+        return check("have a success value satisfying the requirements", true,
+                result -> requirements.accept(result.orElse(null)));
+    }
+
+    /**
+     * Verifies that the failure value of every failed result satisfies the given requirements.
+     */
+    ResultsAssert<S, F> failuresSatisfy(Consumer<? super F> requirements) {
+        return check("have a failure value satisfying the requirements", false,
+                result -> requirements.accept(result.getFailure().orElse(null)));
+    }
+
+    private static <T> Iterable<T> iterable(Stream<T> stream) {
+        return stream::iterator;
+    }
+
+    /* Without requirements, results on the other side are offending; with them, they are skipped */
+    private ResultsAssert<S, F> check(
+            String expectation, boolean success, Consumer<? super Result<S, F>> requirements) {
+        isNotNull();
+        final StringBuilder descriptions = new StringBuilder();
+        long index = 0;
+        long offending = 0;
+        for (Result<S, F> result : actual) {
+            final boolean matches = result.hasSuccess() == success;
+            if (!matches && requirements == null) {
+                /* Past the first offenders, just count them */
+                if (++offending <= reported) {
+                    describe(descriptions, index, success
+                            ? "failure: " + result.getFailure().orElse(null)
+                            : "success: " + result.orElse(null));
+                }
+            } else if (matches && requirements != null) {
+                try {
+                    requirements.accept(result);
+                } catch (AssertionError e) {
+                    if (++offending <= reported) {
+                        describe(descriptions, index, e.getMessage());
+                    }
+                }
+            }
+            index++;
+        }
+        if (offending > 0) {
+            failWithMessage("Expecting all results to %s, but %d of %d did not. First %d:%s",
+                    expectation, offending, index, Math.min(offending, reported), descriptions);
+        }
+        return myself;
+    }
+
+    private static void describe(StringBuilder descriptions, long index, String error) {
+        descriptions.append(String.format("%n  [%d] %s", index, error));
+    }
+}
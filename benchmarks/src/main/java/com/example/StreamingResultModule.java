@@ -0,0 +1,133 @@
+package com.example;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.leakyabstractions.result.api.Result;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Jackson 2.x module that reads and writes results straight from the token stream, without going through
+ * {@code Optional} getters or tree nodes.
+ *
+ * <p>By default, results are written just like {@code ResultModule} does, with both {@code failure} and
+ * {@code success} fields. The compact form writes only the populated one. Either form can be read back.
+ */
+final class StreamingResultModule extends SimpleModule {
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+
+    StreamingResultModule() {
+        this(false);
+    }
+
+    StreamingResultModule(boolean compact) {
+        super(StreamingResultModule.class.getSimpleName());
+        addSerializer(new Serializer(compact));
+        addDeserializer(Result.class, new Deserializer(null, null));
+    }
+
+    /* Unwraps the failure value of a failed result, without creating an Optional */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object failureOf(Result<?, ?> result) {
+        return ((Result) result).orElseMap(Function.identity());
+    }
+
+    static final class Serializer extends StdSerializer<Result<?, ?>> {
+
+        private final boolean compact;
+
+        Serializer(boolean compact) {
+            super(Result.class, false);
+            this.compact = compact;
+        }
+
+        @Override
+        public void serialize(Result<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            if (value.hasSuccess()) {
+                if (!compact) {
+                    gen.writeNullField(FAILURE);
+                }
+                provider.defaultSerializeField(SUCCESS, value.orElse(null), gen);
+            } else {
+                provider.defaultSerializeField(FAILURE, failureOf(value), gen);
+                if (!compact) {
+                    gen.writeNullField(SUCCESS);
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class Deserializer extends StdDeserializer<Result<?, ?>> implements ContextualDeserializer {
+
+        private final JsonDeserializer<Object> successDeserializer;
+        private final JsonDeserializer<Object> failureDeserializer;
+
+        Deserializer(JsonDeserializer<Object> successDeserializer, JsonDeserializer<Object> failureDeserializer) {
+            super(Result.class);
+            this.successDeserializer = successDeserializer;
+            this.failureDeserializer = failureDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            JavaType type = ctxt.getContextualType();
+            if (type == null) {
+                if (property == null) {
+                    /* No type information at all, so read both values untyped */
+                    type = ctxt.constructType(Result.class);
+                } else {
+                    type = property.getType();
+                }
+            }
+            return new Deserializer(
+                    ctxt.findContextualValueDeserializer(type.containedTypeOrUnknown(0), property),
+                    ctxt.findContextualValueDeserializer(type.containedTypeOrUnknown(1), property));
+        }
+
+        @Override
+        public Result<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            }
+            Result<?, ?> result = null;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                final String name = p.currentName();
+                if (p.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (SUCCESS.equals(name)) {
+                    result = success(successDeserializer.deserialize(p, ctxt));
+                } else if (FAILURE.equals(name)) {
+                    result = failure(failureDeserializer.deserialize(p, ctxt));
+                } else {
+                    p.skipChildren();
+                }
+            }
+            if (result == null) {
+                return ctxt.reportInputMismatch(this, "Expected a non-null success or failure value");
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+
+/**
+ * Combines independent checks into one result that holds either a value or every error found.
+ *
+ * <p>Unlike chaining {@code filter} or {@code flatMapSuccess}, all checks run. The list of errors is allocated only
+ * when the first check fails, so the all-valid path allocates nothing but the final result.
+ *
+ * <pre>{@code
+ * Validation<String> validation = new Validation<>();
+ * String name = validation.check(validateName(request.name()));
+ * Integer age = validation.check(validateAge(request.age()));
+ * Result<User, List<String>> user = validation.toResult(() -> new User(name, age));
+ *
+ * Result<User, List<String>> same = Validation.zip2(
+ *     validateName(request.name()), validateAge(request.age()), User::new);
+ * }</pre>
+ *
+ * <p>Validations are mutable and must not be shared across threads. They can be reused after {@code toResult}, but they
+ * keep every error found so far, so a new validation is needed to start over.
+ */
+final class Validation<E> {
+
+    private List<E> errors;
+
+    /**
+     * Records the failure of the given result, if any, and returns its success value, or {@code null}.
+     */
+    <T> T check(Result<T, ? extends E> result) {
+        errors = collect(errors, result);
+        return result.orElse(null);
+    }
+
+    /**
+     * Records the error for the given value if it is not valid.
+     */
+    <T> Validation<E> check(T value, Predicate<? super T> isValid, Function<? super T, ? extends E> error) {
+        if (!isValid.test(value)) {
+            errors = add(errors, error.apply(value));
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether no check has failed so far.
+     */
+    boolean isValid() {
+        return errors == null;
+    }
+
+    /**
+     * Returns a successful result holding the supplied value if every check passed, or a failed one with all errors.
+     *
+     * <p>The supplier is invoked only if every check passed. The errors are copied into an unmodifiable list, so later
+     * checks don't change results already returned.
+     */
+    <T> Result<T, List<E>> toResult(Supplier<? extends T> value) {
+        return errors == null ? success(value.get()) : failure(List.copyOf(errors));
+    }
+
+    /** Represents a function that accepts 3 arguments */
+    @FunctionalInterface
+    interface Function3<T1, T2, T3, R> {
+
+        R apply(T1 a, T2 b, T3 c);
+    }
+
+    /** Represents a function that accepts 4 arguments */
+    @FunctionalInterface
+    interface Function4<T1, T2, T3, T4, R> {
+
+        R apply(T1 a, T2 b, T3 c, T4 d);
+    }
+
+    /** Represents a function that accepts 5 arguments */
+    @FunctionalInterface
+    interface Function5<T1, T2, T3, T4, T5, R> {
+
+        R apply(T1 a, T2 b, T3 c, T4 d, T5 e);
+    }
+
+    /** Represents a function that accepts 6 arguments */
+    @FunctionalInterface
+    interface Function6<T1, T2, T3, T4, T5, T6, R> {
+
+        R apply(T1 a, T2 b, T3 c, T4 d, T5 e, T6 f);
+    }
+
+    /** Represents a function that accepts 7 arguments */
+    @FunctionalInterface
+    interface Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+
+        R apply(T1 a, T2 b, T3 c, T4 d, T5 e, T6 f, T7 g);
+    }
+
+    /** Represents a function that accepts 8 arguments */
+    @FunctionalInterface
+    interface Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+
+        R apply(T1 a, T2 b, T3 c, T4 d, T5 e, T6 f, T7 g, T8 h);
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, E, R> Result<R, List<E>> zip2(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b,
+            BiFunction<? super T1, ? super T2, ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(a.orElse(null), b.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, E, R> Result<R, List<E>> zip3(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(a.orElse(null), b.orElse(null), c.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, T4, E, R> Result<R, List<E>> zip4(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c, Result<T4, ? extends E> d,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        errors = collect(errors, d);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(a.orElse(null), b.orElse(null), c.orElse(null), d.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, T4, T5, E, R> Result<R, List<E>> zip5(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c, Result<T4, ? extends E> d,
+            Result<T5, ? extends E> e,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        errors = collect(errors, d);
+        errors = collect(errors, e);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(a.orElse(null), b.orElse(null), c.orElse(null), d.orElse(null), e.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, T4, T5, T6, E, R> Result<R, List<E>> zip6(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c, Result<T4, ? extends E> d,
+            Result<T5, ? extends E> e, Result<T6, ? extends E> f,
+            Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        errors = collect(errors, d);
+        errors = collect(errors, e);
+        errors = collect(errors, f);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(
+                a.orElse(null), b.orElse(null), c.orElse(null), d.orElse(null), e.orElse(null), f.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, E, R> Result<R, List<E>> zip7(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c, Result<T4, ? extends E> d,
+            Result<T5, ? extends E> e, Result<T6, ? extends E> f, Result<T7, ? extends E> g,
+            Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7,
+                    ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        errors = collect(errors, d);
+        errors = collect(errors, e);
+        errors = collect(errors, f);
+        errors = collect(errors, g);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(
+                a.orElse(null), b.orElse(null), c.orElse(null), d.orElse(null), e.orElse(null), f.orElse(null),
+                g.orElse(null)));
+    }
+
+    /**
+     * Combines the success values of the given results, or returns all their failure values.
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, E, R> Result<R, List<E>> zip8(
+            Result<T1, ? extends E> a, Result<T2, ? extends E> b, Result<T3, ? extends E> c, Result<T4, ? extends E> d,
+            Result<T5, ? extends E> e, Result<T6, ? extends E> f, Result<T7, ? extends E> g, Result<T8, ? extends E> h,
+            Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? extends R> combiner) {
+        List<E> errors = collect(null, a);
+        errors = collect(errors, b);
+        errors = collect(errors, c);
+        errors = collect(errors, d);
+        errors = collect(errors, e);
+        errors = collect(errors, f);
+        errors = collect(errors, g);
+        errors = collect(errors, h);
+        if (errors != null) {
+            return failure(List.copyOf(errors));
+        }
+        return success(combiner.apply(
+                a.orElse(null), b.orElse(null), c.orElse(null), d.orElse(null), e.orElse(null), f.orElse(null),
+                g.orElse(null), h.orElse(null)));
+    }
+
+    private static <E> List<E> collect(List<E> errors, Result<?, ? extends E> result) {
+        return result.hasFailure() ? add(errors, result.getFailure().orElseThrow()) : errors;
+    }
+
+    private static <E> List<E> add(List<E> errors, E error) {
+        final List<E> list = errors == null ? new ArrayList<>() : errors;
+        list.add(error);
+        return list;
+    }
+}
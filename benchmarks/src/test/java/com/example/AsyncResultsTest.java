@@ -0,0 +1,145 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Async Results")
+class AsyncResultsTest {
+
+    String task1() {
+        return "OK";
+    }
+
+    String task2() throws Exception {
+        throw new Exception("Whoops!");
+    }
+
+    @DisplayName("AsyncResults.ofCallable")
+    @Test
+    void testOfCallable() {
+        // When
+        Result<String, Exception> result1 = AsyncResults.ofCallable(this::task1).join();
+        Result<String, Exception> result2 = AsyncResults.ofCallable(this::task2).join();
+        Result<Boolean, Exception> result3 = AsyncResults.ofCallable(() -> Thread.currentThread().isVirtual()).join();
+        // Then
+        assertTrue(result1::hasSuccess);
+        assertTrue(result2::hasFailure);
+        assertTrue(result3.orElse(false));
+    }
+
+    @DisplayName("AsyncResults.ofCallable with a custom executor")
+    @Test
+    void testOfCallableWithExecutor() {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // When
+        Result<String, Exception> result = AsyncResults.ofCallable(() -> Thread.currentThread().getName(), executor)
+                .join();
+        executor.shutdown();
+        // Then
+        assertTrue(result.orElse("").startsWith("pool-"));
+    }
+
+    @DisplayName("AsyncResults.thenMapSuccess")
+    @Test
+    void testThenMapSuccess() {
+        // Given
+        CompletableFuture<Result<String, Exception>> future = AsyncResults.ofCallable(this::task1);
+        // When
+        Result<Integer, Exception> mapped = AsyncResults.thenMapSuccess(future, String::length).join();
+        // Then
+        assertEquals(2, mapped.orElse(null));
+    }
+
+    @DisplayName("AsyncResults.thenFlatMap")
+    @Test
+    void testThenFlatMap() {
+        // Given
+        CompletableFuture<Result<String, Exception>> future1 = AsyncResults.ofCallable(this::task1);
+        CompletableFuture<Result<String, Exception>> future2 = AsyncResults.ofCallable(this::task2);
+        // When
+        Result<String, Exception> mapped1 = AsyncResults.thenFlatMap(future1, x -> AsyncResults.ofCallable(this::task2))
+                .join();
+        Result<String, Exception> mapped2 = AsyncResults.thenFlatMap(future2, x -> AsyncResults.ofCallable(this::task1))
+                .join();
+        // Then
+        assertEquals("Whoops!", mapped1.getFailure().map(Exception::getMessage).orElse(null));
+        assertEquals("Whoops!", mapped2.getFailure().map(Exception::getMessage).orElse(null));
+    }
+
+    @DisplayName("AsyncResults.allOf")
+    @Test
+    void testAllOf() {
+        // Given
+        List<CompletableFuture<Result<String, Exception>>> futures1 = List.of(
+                AsyncResults.ofCallable(this::task1), AsyncResults.ofCallable(this::task1));
+        List<CompletableFuture<Result<String, Exception>>> futures2 = List.of(
+                AsyncResults.ofCallable(this::task1), AsyncResults.ofCallable(this::task2));
+        // When
+        Result<List<String>, Exception> result1 = AsyncResults.allOf(futures1).join();
+        Result<List<String>, Exception> result2 = AsyncResults.allOf(futures2).join();
+        // Then
+        assertEquals(List.of("OK", "OK"), result1.orElse(null));
+        assertTrue(result2::hasFailure);
+    }
+
+    @DisplayName("AsyncResults.anyOf")
+    @Test
+    void testAnyOf() {
+        // Given
+        List<CompletableFuture<Result<String, String>>> futures1 = List.of(
+                completedFuture(failure("A")), new CompletableFuture<>(), completedFuture(success("OK")));
+        List<CompletableFuture<Result<String, String>>> futures2 = List.of(
+                completedFuture(failure("A")), completedFuture(failure("B")));
+        // When
+        Result<String, String> result1 = AsyncResults.anyOf(futures1).join();
+        Result<String, String> result2 = AsyncResults.anyOf(futures2).join();
+        // Then
+        assertEquals("OK", result1.orElse(null));
+        assertEquals("A", result2.getFailure().orElse(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResults.anyOf(List.of()));
+    }
+
+    @DisplayName("AsyncResults.anyOf with exceptions")
+    @Test
+    void testAnyOfWithExceptions() {
+        // Given
+        CompletableFuture<Result<String, String>> late = new CompletableFuture<>();
+        List<CompletableFuture<Result<String, String>>> futures1 = List.of(
+                failedFuture(new IllegalStateException()), late);
+        List<CompletableFuture<Result<String, String>>> futures2 = List.of(
+                failedFuture(new IllegalStateException()), completedFuture(failure("B")));
+        List<CompletableFuture<Result<String, String>>> futures3 = List.of(
+                failedFuture(new IllegalStateException()), failedFuture(new IllegalArgumentException()));
+        // When
+        CompletableFuture<Result<String, String>> any1 = AsyncResults.anyOf(futures1);
+        boolean doneBeforeSuccess = any1.isDone();
+        late.complete(success("OK"));
+        Result<String, String> result1 = any1.join();
+        Result<String, String> result2 = AsyncResults.anyOf(futures2).join();
+        CompletableFuture<Result<String, String>> any3 = AsyncResults.anyOf(futures3);
+        // Then
+        assertFalse(doneBeforeSuccess);
+        assertEquals("OK", result1.orElse(null));
+        assertEquals("B", result2.getFailure().orElse(null));
+        CompletionException exception = assertThrows(CompletionException.class, any3::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+}
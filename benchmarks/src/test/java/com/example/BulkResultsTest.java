@@ -0,0 +1,111 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Bulk Results")
+class BulkResultsTest {
+
+    static Result<Integer, String> parse(String text) {
+        return text.chars().allMatch(Character::isDigit) ? success(Integer.valueOf(text)) : failure(text);
+    }
+
+    @DisplayName("BulkResults.sequence")
+    @Test
+    void testSequence() {
+        // Given
+        List<Result<Integer, String>> results1 = List.of(success(1), success(2), success(3));
+        List<Result<Integer, String>> results2 = List.of(success(1), failure("A"), failure("B"));
+        // When
+        Result<List<Integer>, String> sequence1 = BulkResults.sequence(results1);
+        Result<List<Integer>, String> sequence2 = BulkResults.sequence(results2);
+        // Then
+        assertEquals(List.of(1, 2, 3), sequence1.orElse(null));
+        assertEquals("A", sequence2.getFailure().orElse(null));
+    }
+
+    @DisplayName("BulkResults.traverse")
+    @Test
+    void testTraverse() {
+        // Given
+        AtomicInteger timesExecuted = new AtomicInteger();
+        List<String> items = List.of("1", "A", "3");
+        // When
+        Result<List<Integer>, String> traversed = BulkResults.traverse(items, x -> {
+            timesExecuted.incrementAndGet();
+            return parse(x);
+        });
+        // Then
+        assertEquals("A", traversed.getFailure().orElse(null));
+        assertEquals(2, timesExecuted.get());
+    }
+
+    @DisplayName("BulkResults.traverseAll")
+    @Test
+    void testTraverseAll() {
+        // Given
+        List<String> items1 = List.of("1", "2", "3");
+        List<String> items2 = List.of("1", "A", "B");
+        // When
+        Result<List<Integer>, List<String>> traversed1 = BulkResults.traverseAll(items1, BulkResultsTest::parse);
+        Result<List<Integer>, List<String>> traversed2 = BulkResults.traverseAll(items2, BulkResultsTest::parse);
+        // Then
+        assertEquals(List.of(1, 2, 3), traversed1.orElse(null));
+        assertEquals(List.of("A", "B"), traversed2.getFailure().orElse(null));
+    }
+
+    @DisplayName("BulkResults.parallelTraverse")
+    @Test
+    void testParallelTraverse() {
+        // Given
+        List<String> items1 = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+        List<String> items2 = IntStream.range(0, 10_000).mapToObj(x -> x % 1000 == 999 ? "A" + x : "" + x).toList();
+        // When
+        Result<List<Integer>, String> traversed1 = BulkResults.parallelTraverse(items1, BulkResultsTest::parse);
+        Result<List<Integer>, String> traversed2 = BulkResults.parallelTraverse(items2, BulkResultsTest::parse);
+        // Then
+        assertEquals(IntStream.range(0, 10_000).boxed().toList(), traversed1.orElse(null));
+        assertEquals("A999", traversed2.getFailure().orElse(null));
+    }
+
+    @DisplayName("BulkResults.parallelTraverse with a custom pool")
+    @Test
+    void testParallelTraverseWithPool() {
+        // Given
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<String> items = List.of("1", "2", "3");
+        // When
+        Result<List<Integer>, String> traversed = BulkResults.parallelTraverse(items, BulkResultsTest::parse, pool);
+        pool.shutdown();
+        // Then
+        assertEquals(List.of(1, 2, 3), traversed.orElse(null));
+    }
+
+    @DisplayName("BulkResults.toResult")
+    @Test
+    void testToResult() {
+        // Given
+        List<String> items1 = List.of("1", "2", "3");
+        List<String> items2 = List.of("1", "A", "B");
+        // When
+        Result<List<Integer>, String> collected1 = items1.stream()
+                .map(BulkResultsTest::parse)
+                .collect(BulkResults.toResult());
+        Result<List<Integer>, String> collected2 = items2.parallelStream()
+                .map(BulkResultsTest::parse)
+                .collect(BulkResults.toResult());
+        // Then
+        assertEquals(List.of(1, 2, 3), collected1.orElse(null));
+        assertEquals("A", collected2.getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example;
+
+import com.example.CanonicalResults.Unit;
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Canonical Results")
+class CanonicalResultsTest {
+
+    enum PetError {NOT_FOUND, NO_CONFIG}
+
+    @DisplayName("Should reuse common successes")
+    @Test
+    void shouldReuseCommonSuccesses() {
+        // When
+        Result<Boolean, String> true1 = CanonicalResults.success(true);
+        Result<Boolean, String> true2 = CanonicalResults.success(Boolean.TRUE);
+        Result<Integer, String> ok1 = CanonicalResults.success(200);
+        Result<Integer, String> ok2 = CanonicalResults.success(Integer.valueOf(200));
+        Result<String, String> empty1 = CanonicalResults.success("");
+        Result<String, String> empty2 = CanonicalResults.success(new String());
+        // Then
+        assertSame(true1, true2);
+        assertSame(ok1, ok2);
+        assertSame(empty1, empty2);
+        assertNotSame(CanonicalResults.success(true), CanonicalResults.success(false));
+        assertEquals(200, ok1.orElse(null));
+    }
+
+    @DisplayName("Should create uncommon successes")
+    @Test
+    void shouldCreateUncommonSuccesses() {
+        // When
+        Result<Integer, String> big1 = CanonicalResults.success(CanonicalResults.HIGH + 1);
+        Result<Integer, String> big2 = CanonicalResults.success(CanonicalResults.HIGH + 1);
+        Result<String, String> text1 = CanonicalResults.success("Pet");
+        Result<String, String> text2 = CanonicalResults.success("Pet");
+        // Then
+        assertNotSame(big1, big2);
+        assertNotSame(text1, text2);
+        assertEquals(CanonicalResults.HIGH + 1, big1.orElse(null));
+    }
+
+    @DisplayName("Should reuse enum failures")
+    @Test
+    void shouldReuseEnumFailures() {
+        // When
+        Result<String, PetError> notFound1 = CanonicalResults.failure(PetError.NOT_FOUND);
+        Result<Integer, PetError> notFound2 = CanonicalResults.failure(PetError.NOT_FOUND);
+        Result<String, PetError> noConfig = CanonicalResults.failure(PetError.NO_CONFIG);
+        // Then
+        assertSame(notFound1, notFound2);
+        assertNotSame(notFound1, noConfig);
+        assertEquals(PetError.NO_CONFIG, noConfig.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should reuse interned failures")
+    @Test
+    void shouldReuseInternedFailures() {
+        /* Local type, so no other test can observe or interfere with the global interned values */
+        record Gone(int code) {
+        }
+        // Given
+        Result<String, Gone> before1 = CanonicalResults.ofNullable(null, new Gone(410));
+        Result<String, Gone> before2 = CanonicalResults.ofNullable(null, new Gone(410));
+        // When
+        CanonicalResults.intern(new Gone(410));
+        Result<String, Gone> after1 = CanonicalResults.ofNullable(null, new Gone(410));
+        Result<String, Gone> after2 = CanonicalResults.ofNullable(null, new Gone(410));
+        // Then
+        assertNotSame(before1, before2);
+        assertSame(after1, after2);
+        assertEquals(new Gone(410), after1.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should reuse the unit success")
+    @Test
+    void shouldReuseUnitSuccess() {
+        // When
+        Result<Unit, String> unit1 = CanonicalResults.success();
+        Result<Unit, String> unit2 = CanonicalResults.success(Unit.UNIT);
+        Result<Unit, Exception> done = CanonicalResults.ofAction(() -> {
+        });
+        Result<Unit, Exception> failed = CanonicalResults.ofAction(() -> {
+            throw new IllegalStateException("Failure");
+        });
+        // Then
+        assertSame(unit1, unit2);
+        assertSame(unit1, done);
+        assertInstanceOf(IllegalStateException.class, failed.getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.ofCallable;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Counting Result Metrics")
+class CountingResultMetricsTest {
+
+    @DisplayName("Should count results by call site and failure type")
+    @Test
+    void shouldCountResults() {
+        // Given
+        CountingResultMetrics metrics = new CountingResultMetrics();
+        // When
+        MeteredResults.record(metrics, "uptime", success(1));
+        MeteredResults.record(metrics, "uptime", success(2));
+        MeteredResults.record(metrics, "uptime", ofCallable(() -> {
+            throw new IOException("Unreachable");
+        }));
+        MeteredResults.record(metrics, "health", failure("Oops"));
+        // Then
+        assertEquals(2L, metrics.successes("uptime"));
+        assertEquals(1L, metrics.failures("uptime", IOException.class));
+        assertEquals(0L, metrics.failures("uptime", String.class));
+        assertEquals(0L, metrics.successes("health"));
+        assertEquals(1L, metrics.failures("health", String.class));
+    }
+
+    @DisplayName("Should notify existing and new counters")
+    @Test
+    void shouldNotifyCounters() {
+        // Given
+        CountingResultMetrics metrics = new CountingResultMetrics();
+        List<String> callSites = new ArrayList<>();
+        metrics.onSuccess("before");
+        // When
+        metrics.forEachCounter((key, counter) -> callSites.add(key.callSite()));
+        metrics.onSuccess("before");
+        metrics.onFailure("after", String.class);
+        // Then
+        assertEquals(List.of("before", "after"), callSites);
+    }
+
+    @DisplayName("Should let listeners record results")
+    @Test
+    void shouldLetListenersRecordResults() {
+        // Given
+        CountingResultMetrics metrics = new CountingResultMetrics();
+        metrics.forEachCounter((key, counter) -> {
+            if (!key.callSite().equals("listener")) {
+                metrics.onSuccess("listener");
+            }
+        });
+        // When
+        metrics.onSuccess("uptime");
+        metrics.onFailure("uptime", String.class);
+        // Then
+        assertEquals(1L, metrics.successes("uptime"));
+        assertEquals(1L, metrics.failures("uptime", String.class));
+        assertEquals(2L, metrics.successes("listener"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Double Result")
+class DoubleResultTest {
+
+    @DisplayName("Should map success values without boxing")
+    @Test
+    void shouldMapSuccess() {
+        // Given
+        DoubleResult<String> result = DoubleResult.of(success(1.5));
+        // When
+        DoubleResult<String> mapped = result.mapSuccess(x -> x * 2);
+        // Then
+        assertEquals(3.0, mapped.orElse(Double.NaN));
+        assertEquals(3, mapped.mapToInt(x -> (int) x).orElse(-1));
+        assertEquals(Double.valueOf(3.0), mapped.boxed().orElse(null));
+    }
+
+    @DisplayName("Should pass failures through")
+    @Test
+    void shouldPassFailuresThrough() {
+        // Given
+        Result<Double, String> failure = failure("Failure");
+        DoubleResult<String> result = DoubleResult.of(failure);
+        // When
+        DoubleResult<String> mapped = result.mapSuccess(x -> x * 2);
+        // Then
+        assertSame(result, mapped);
+        assertEquals(-1.0, mapped.orElse(-1.0));
+        assertEquals("FAILURE", mapped.mapFailure(String::toUpperCase).getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Int Result")
+class IntResultTest {
+
+    @DisplayName("Should map success values without boxing")
+    @Test
+    void shouldMapSuccess() {
+        // Given
+        IntResult<String> result = IntResult.success(123);
+        // When
+        IntResult<String> mapped = result.mapSuccess(x -> x + 1).filter(x -> x > 0, x -> "It's negative");
+        // Then
+        assertEquals(124, mapped.orElse(-1));
+        assertEquals(124L, mapped.mapToLong(x -> x).orElse(-1L));
+        assertEquals(1.24, mapped.mapToDouble(x -> x / 100.0).orElse(Double.NaN));
+        assertEquals("124", mapped.mapToObj(Integer::toString).orElse(null));
+    }
+
+    @DisplayName("Should pass failures through")
+    @Test
+    void shouldPassFailuresThrough() {
+        // Given
+        IntResult<String> result = IntResult.failure("Failure");
+        // When
+        IntResult<String> mapped = result.mapSuccess(x -> x + 1).filter(x -> x > 0, x -> "It's negative");
+        // Then
+        assertSame(result, mapped);
+        assertEquals(-1, mapped.orElse(-1));
+        assertEquals(7, mapped.orElseMap(String::length));
+        assertEquals("Failure", mapped.mapToLong(x -> x).getFailure().orElse(null));
+        assertEquals(7, mapped.recover(String::length).orElse(-1));
+    }
+
+    @DisplayName("Should convert to and from boxed results")
+    @Test
+    void shouldConvertBoxedResults() {
+        // Given
+        Result<Integer, String> success = success(123);
+        Result<Integer, String> failure = failure("Failure");
+        // When
+        Result<Integer, String> boxed = IntResult.of(success).boxed();
+        IntResult<String> unboxed = IntResult.of(failure);
+        IntResult<String> length = IntResult.mapToInt(success("Pet"), String::length);
+        // Then
+        assertEquals(123, boxed.orElse(null));
+        assertTrue(unboxed.hasFailure());
+        assertEquals("Failure", unboxed.boxed().getFailure().orElse(null));
+        assertEquals(3, length.orElse(-1));
+    }
+}
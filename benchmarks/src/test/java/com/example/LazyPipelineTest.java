@@ -0,0 +1,109 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Lazy Pipeline")
+class LazyPipelineTest {
+
+    /* Represents the operation we may omit */
+    Result<Long, Exception> expensiveCalculation(AtomicLong timesExecuted) {
+        long counter = timesExecuted.incrementAndGet();
+        return success(counter);
+    }
+
+    static long stackDepth() {
+        return StackWalker.getInstance().walk(frames -> frames.count());
+    }
+
+    @DisplayName("Should skip expensive calculation")
+    @Test
+    void shouldSkipExpensiveCalculation() {
+        AtomicLong timesExecuted = new AtomicLong();
+        // Given
+        LazyPipeline<Long, Exception> pipeline = LazyPipeline.of(() -> expensiveCalculation(timesExecuted));
+        // When
+        Result<String, Exception> transformed = pipeline.mapSuccess(Object::toString).toResult();
+        // Then
+        assertNotNull(transformed);
+        assertEquals(0L, timesExecuted.get());
+    }
+
+    @DisplayName("Should execute expensive calculation")
+    @Test
+    void shouldExecuteExpensiveCalculation() {
+        AtomicLong timesExecuted = new AtomicLong();
+        // Given
+        LazyPipeline<Long, Exception> pipeline = LazyPipeline.of(() -> expensiveCalculation(timesExecuted));
+        // When
+        Result<String, Exception> transformed = pipeline.mapSuccess(Object::toString).toResult();
+        boolean success = transformed.hasSuccess();
+        // Then
+        assertTrue(success);
+        assertEquals(1L, timesExecuted.get());
+    }
+
+    @DisplayName("Should run all operations")
+    @Test
+    void shouldRunAllOperations() {
+        // Given
+        LazyPipeline<Integer, String> pipeline = LazyPipeline.of(() -> success(1));
+        // When
+        Result<Integer, Integer> result = pipeline
+                .filter(x -> x % 2 == 0, x -> "It's odd")
+                .recover("It's odd"::equals, String::length)
+                .mapSuccess(x -> x * 2)
+                .flatMapSuccess(x -> x > 10 ? failure("Too big") : success(x))
+                .flatMapFailure(x -> success(0))
+                .flatMap(x -> x < 0 ? success(x) : failure("Always fails"), x -> failure("Unreachable"))
+                .map(x -> x, String::length)
+                .toResult();
+        // Then
+        assertEquals("Always fails".length(), result.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should not grow the stack")
+    @Test
+    void shouldNotGrowTheStack() {
+        // Given
+        long[] depths = new long[100];
+        LazyPipeline<Integer, String> pipeline = LazyPipeline.of(() -> success(0));
+        for (int i = 0; i < 100; i++) {
+            pipeline = pipeline.mapSuccess(x -> {
+                depths[x] = stackDepth();
+                return x + 1;
+            });
+        }
+        // When
+        Result<Integer, String> result = pipeline.toResult();
+        // Then
+        assertEquals(100, result.orElse(null));
+        assertEquals(depths[0], depths[99]);
+    }
+
+    @DisplayName("Should branch from a common prefix")
+    @Test
+    void shouldBranchFromCommonPrefix() {
+        // Given
+        LazyPipeline<Integer, String> source = LazyPipeline.of(() -> success(1));
+        LazyPipeline<Integer, String> prefix = source.mapSuccess(x -> x + 1);
+        // When
+        LazyPipeline<Integer, String> doubled = prefix.mapSuccess(x -> x * 2);
+        LazyPipeline<String, String> described = prefix.mapSuccess(x -> "Value " + x);
+        LazyPipeline<Integer, String> negated = doubled.mapSuccess(x -> -x);
+        // Then
+        assertEquals(2, prefix.toResult().orElse(null));
+        assertEquals(4, doubled.toResult().orElse(null));
+        assertEquals("Value 2", described.toResult().orElse(null));
+        assertEquals(-4, negated.toResult().orElse(null));
+    }
+}
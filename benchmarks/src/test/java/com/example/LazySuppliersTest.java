@@ -0,0 +1,93 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Lazy Suppliers")
+class LazySuppliersTest {
+
+    static final int THREADS = 64;
+
+    /* Represents the operation we must never run twice */
+    Result<Long, Exception> expensiveCalculation(AtomicLong timesExecuted) {
+        long counter = timesExecuted.incrementAndGet();
+        return success(counter);
+    }
+
+    static void runConcurrently(Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    task.run();
+                });
+            }
+            start.countDown();
+        }
+    }
+
+    @DisplayName("LazySuppliers.once")
+    @Test
+    void testOnce() throws InterruptedException {
+        AtomicLong timesExecuted = new AtomicLong();
+        // Given
+        Result<Long, Exception> lazy = LazyResults
+                .ofSupplier(LazySuppliers.once(() -> expensiveCalculation(timesExecuted)));
+        // When
+        runConcurrently(lazy::hasSuccess);
+        // Then
+        assertEquals(1L, timesExecuted.get());
+        assertEquals(1L, lazy.orElse(null));
+    }
+
+    @DisplayName("LazySuppliers.perThread")
+    @Test
+    void testPerThread() throws InterruptedException {
+        AtomicLong timesExecuted = new AtomicLong();
+        // Given
+        Supplier<Result<Long, Exception>> supplier = LazySuppliers.perThread(() -> expensiveCalculation(timesExecuted));
+        // When
+        runConcurrently(() -> {
+            supplier.get();
+            supplier.get();
+        });
+        // Then
+        assertEquals(THREADS, timesExecuted.get());
+    }
+
+    @DisplayName("LazySuppliers.expiring")
+    @Test
+    void testExpiring() {
+        AtomicLong timesExecuted = new AtomicLong();
+        AtomicLong clock = new AtomicLong();
+        // Given
+        Supplier<Result<Long, Exception>> supplier = new LazySuppliers.Expiring<>(
+                () -> expensiveCalculation(timesExecuted), 10, clock::get);
+        // When
+        Result<Long, Exception> result1 = supplier.get();
+        clock.set(9);
+        Result<Long, Exception> result2 = supplier.get();
+        clock.set(10);
+        Result<Long, Exception> result3 = supplier.get();
+        // Then
+        assertEquals(1L, result1.orElse(null));
+        assertEquals(1L, result2.orElse(null));
+        assertEquals(2L, result3.orElse(null));
+    }
+}
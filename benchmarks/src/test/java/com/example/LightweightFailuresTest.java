@@ -0,0 +1,46 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Lightweight Failures")
+class LightweightFailuresTest {
+
+    /** Represents a lightweight failure */
+    enum CacheFailure {
+        MISS
+    }
+
+    @DisplayName("Should return the value of the callable")
+    @Test
+    void shouldReturnValue() {
+        // When
+        Result<String, CacheFailure> result = LightweightFailures.ofCallable(() -> "Hit", e -> CacheFailure.MISS);
+        // Then
+        assertEquals("Hit", result.orElse(null));
+    }
+
+    @DisplayName("Should map the exception to a failure")
+    @Test
+    void shouldMapException() {
+        // When
+        Result<String, CacheFailure> result = LightweightFailures.ofCallable(() -> {
+            throw new LightweightFailures.StacklessException("Miss");
+        }, e -> CacheFailure.MISS);
+        // Then
+        assertEquals(CacheFailure.MISS, result.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should not fill in the stack trace")
+    @Test
+    void shouldNotFillInStackTrace() {
+        // When
+        Exception exception = new LightweightFailures.StacklessException("Miss");
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Miss", exception.getMessage());
+    }
+}
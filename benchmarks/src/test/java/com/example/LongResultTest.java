@@ -0,0 +1,42 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Long Result")
+class LongResultTest {
+
+    @DisplayName("Should map success values without boxing")
+    @Test
+    void shouldMapSuccess() {
+        // Given
+        LongResult<String> result = LongResult.success(123_456_789_012L);
+        // When
+        LongResult<String> mapped = result.mapSuccess(x -> x + 1);
+        // Then
+        assertEquals(123_456_789_013L, mapped.orElse(-1L));
+        assertEquals(13, mapped.mapToInt(x -> (int) (x % 100)).orElse(-1));
+        assertEquals(123_456_789_013L, mapped.boxed().orElse(null));
+    }
+
+    @DisplayName("Should pass failures through")
+    @Test
+    void shouldPassFailuresThrough() {
+        // Given
+        Result<Long, String> failure = failure("Failure");
+        LongResult<String> result = LongResult.of(failure);
+        // When
+        LongResult<String> mapped = result.mapSuccess(x -> x + 1);
+        // Then
+        assertSame(result, mapped);
+        assertEquals(-1L, mapped.orElse(-1L));
+        assertEquals("Failure", mapped.boxed().getFailure().orElse(null));
+        assertEquals(3L, LongResult.mapToLong(success("Pet"), String::length).orElse(-1L));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/* The build enables metrics for tests with the result.metrics system property */
+@DisplayName("Metered Results")
+class MeteredResultsTest {
+
+    @DisplayName("Should report results when enabled")
+    @Test
+    void shouldReportResults() {
+        // Given
+        CountingResultMetrics metrics = assertInstanceOf(CountingResultMetrics.class,
+                MeteredResults.metrics().orElse(null));
+        // When
+        Result<Integer, String> success = MeteredResults.success("metered", 1);
+        Result<Integer, String> failure = MeteredResults.failure("metered", "Failure");
+        Result<Integer, Exception> thrown = MeteredResults.ofCallable("metered", () -> {
+            throw new IOException("Failure");
+        });
+        // Then
+        assertEquals(1, success.orElse(null));
+        assertEquals("Failure", failure.getFailure().orElse(null));
+        assertInstanceOf(IOException.class, thrown.getFailure().orElse(null));
+        assertEquals(1L, metrics.successes("metered"));
+        assertEquals(1L, metrics.failures("metered", String.class));
+        assertEquals(1L, metrics.failures("metered", IOException.class));
+    }
+}
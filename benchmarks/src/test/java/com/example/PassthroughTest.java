@@ -0,0 +1,39 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Passthrough")
+class PassthroughTest {
+
+    @DisplayName("Should pass failures through untouched")
+    @Test
+    void shouldPassFailuresThrough() {
+        // Given
+        Result<Integer, String> result = failure("Failure");
+        // When
+        Result<Integer, String> mapped = result.mapSuccess(x -> -x);
+        Result<Integer, String> filtered = result.filter(x -> x > 0, x -> "It's negative");
+        // Then
+        assertSame(result, mapped);
+        assertSame(result, filtered);
+    }
+
+    @DisplayName("Should pass successes through untouched")
+    @Test
+    void shouldPassSuccessesThrough() {
+        // Given
+        Result<Integer, String> result = success(1);
+        // When
+        Result<Integer, String> mapped = result.mapFailure(String::toUpperCase);
+        Result<Integer, String> recovered = result.recover(String::isEmpty, String::length);
+        // Then
+        assertSame(result, mapped);
+        assertSame(result, recovered);
+    }
+}
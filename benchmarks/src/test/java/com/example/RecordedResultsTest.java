@@ -0,0 +1,88 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Recorded Results")
+class RecordedResultsTest {
+
+    static List<RecordedEvent> record(String eventName, Duration threshold, Runnable action) {
+        List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(eventName).withThreshold(threshold);
+            stream.onEvent(eventName, events::add);
+            stream.startAsync();
+            action.run();
+            stream.stop();
+        }
+        return events;
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @DisplayName("Should record callable failures")
+    @Test
+    void shouldRecordCallableFailures() {
+        // When
+        List<RecordedEvent> events = record("com.example.CallableFailure", Duration.ZERO, () -> {
+            RecordedResults.ofCallable(() -> "Success");
+            RecordedResults.ofCallable(() -> {
+                throw new IOException("Oops");
+            });
+        });
+        // Then
+        assertEquals(1, events.size());
+        assertEquals(IOException.class.getName(), events.get(0).getClass("exceptionClass").getName());
+        assertEquals("Oops", events.get(0).getString("message"));
+    }
+
+    @DisplayName("Should record slow suppliers only")
+    @Test
+    void shouldRecordSlowSuppliers() {
+        // When
+        List<RecordedEvent> events = record("com.example.SlowSupplier", Duration.ofMillis(20), () -> {
+            Result<String, String> fast = RecordedResults.ofSupplier(() -> success("Fast"));
+            Result<String, String> slow = RecordedResults.ofSupplier(() -> {
+                sleep(50);
+                return success("Slow");
+            });
+            fast.hasSuccess();
+            slow.hasSuccess();
+        });
+        // Then
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("success"));
+        assertTrue(events.get(0).getDuration().toMillis() >= 50);
+    }
+
+    @DisplayName("Should record failures with stack trace")
+    @Test
+    void shouldRecordFailuresWithStackTrace() {
+        // When
+        List<RecordedEvent> events = record("com.example.FailureCreated", Duration.ZERO,
+                () -> RecordedResults.failure("Oops"));
+        // Then
+        assertEquals(1, events.size());
+        assertEquals(String.class.getName(), events.get(0).getClass("failureClass").getName());
+        assertFalse(events.get(0).getStackTrace().getFrames().isEmpty());
+    }
+}
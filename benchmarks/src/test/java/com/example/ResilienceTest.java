@@ -0,0 +1,175 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Resilience")
+class ResilienceTest {
+
+    /** Represents a server that fails its first connections, and may be slow */
+    static class FlakyServer {
+
+        final AtomicInteger connections = new AtomicInteger();
+        final int failures;
+        final long latency;
+        final String error;
+
+        FlakyServer(int failures, long latency, String error) {
+            this.failures = failures;
+            this.latency = latency;
+            this.error = error;
+        }
+
+        Result<String, String> connect() {
+            final int connection = connections.incrementAndGet();
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                return failure("Interrupted");
+            }
+            return connection <= failures ? failure(error) : success("Connection #" + connection);
+        }
+    }
+
+    @DisplayName("Should retry retryable failures")
+    @Test
+    void shouldRetry() {
+        // Given
+        FlakyServer server = new FlakyServer(2, 0, "Connection error");
+        // When
+        Result<String, String> result = Resilience.retry(server::connect, 5, Duration.ofMillis(1),
+                "Connection error"::equals);
+        // Then
+        assertEquals("Connection #3", result.orElse(null));
+        assertEquals(3, server.connections.get());
+    }
+
+    @DisplayName("Should stop retrying")
+    @Test
+    void shouldStopRetrying() {
+        // Given
+        FlakyServer unavailable = new FlakyServer(10, 0, "Connection error");
+        FlakyServer unauthorized = new FlakyServer(10, 0, "Unauthorized");
+        // When
+        Result<String, String> result1 = Resilience.retry(unavailable::connect, 3, Duration.ZERO,
+                "Connection error"::equals);
+        Result<String, String> result2 = Resilience.retry(unauthorized::connect, 3, Duration.ZERO,
+                "Connection error"::equals);
+        // Then
+        assertEquals("Connection error", result1.getFailure().orElse(null));
+        assertEquals(3, unavailable.connections.get());
+        assertEquals("Unauthorized", result2.getFailure().orElse(null));
+        assertEquals(1, unauthorized.connections.get());
+    }
+
+    @DisplayName("Should time out slow calls")
+    @Test
+    void shouldTimeOut() {
+        // Given
+        FlakyServer fast = new FlakyServer(0, 0, "Connection error");
+        FlakyServer slow = new FlakyServer(0, 10_000, "Connection error");
+        // When
+        Result<String, String> result1 = Resilience.timeout(fast::connect, Duration.ofSeconds(5), "Timeout").get();
+        Result<String, String> result2 = Resilience.timeout(slow::connect, Duration.ofMillis(50), "Timeout").get();
+        // Then
+        assertEquals("Connection #1", result1.orElse(null));
+        assertEquals("Timeout", result2.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should rethrow errors from timed calls")
+    @Test
+    void shouldRethrowErrors() {
+        // Given
+        AssertionError error = new AssertionError("Failure");
+        // When
+        AssertionError thrown = assertThrows(AssertionError.class, () -> Resilience.timeout(() -> {
+            throw error;
+        }, Duration.ofSeconds(5), "Timeout").get());
+        // Then
+        assertSame(error, thrown);
+    }
+
+    @DisplayName("Should open, half-open and close the circuit")
+    @Test
+    void shouldBreakCircuit() {
+        AtomicLong clock = new AtomicLong();
+        // Given
+        FlakyServer server = new FlakyServer(6, 0, "Connection error");
+        Resilience.CircuitBreaker breaker = new Resilience.CircuitBreaker(10, 0.5, 4, 100, clock::get);
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.call(server::connect, "Circuit open");
+        }
+        int stateAfterFailures = breaker.state();
+        Result<String, String> rejected = breaker.call(server::connect, "Circuit open");
+        clock.set(100);
+        Result<String, String> failedTrial = breaker.call(server::connect, "Circuit open");
+        int stateAfterFailedTrial = breaker.state();
+        clock.set(200);
+        breaker.call(server::connect, "Circuit open");
+        breaker.call(server::connect, "Circuit open");
+        clock.set(300);
+        Result<String, String> trial = breaker.call(server::connect, "Circuit open");
+        // Then
+        assertEquals(Resilience.CircuitBreaker.OPEN, stateAfterFailures);
+        assertEquals("Circuit open", rejected.getFailure().orElse(null));
+        assertEquals("Connection error", failedTrial.getFailure().orElse(null));
+        assertEquals(Resilience.CircuitBreaker.OPEN, stateAfterFailedTrial);
+        assertEquals("Connection #7", trial.orElse(null));
+        assertEquals(Resilience.CircuitBreaker.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+        assertEquals(7, server.connections.get());
+    }
+
+    @DisplayName("Should open the circuit again if the trial call throws")
+    @Test
+    void shouldReopenCircuitAfterThrowingTrial() {
+        AtomicLong clock = new AtomicLong();
+        // Given
+        FlakyServer server = new FlakyServer(4, 0, "Connection error");
+        Resilience.CircuitBreaker breaker = new Resilience.CircuitBreaker(10, 0.5, 4, 100, clock::get);
+        for (int i = 0; i < 4; i++) {
+            breaker.call(server::connect, "Circuit open");
+        }
+        // When
+        clock.set(100);
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+            throw new IllegalStateException("Timed out");
+        }, "Circuit open"));
+        int stateAfterThrowingTrial = breaker.state();
+        Result<String, String> rejected = breaker.call(server::connect, "Circuit open");
+        clock.set(200);
+        Result<String, String> trial = breaker.call(server::connect, "Circuit open");
+        // Then
+        assertEquals(Resilience.CircuitBreaker.OPEN, stateAfterThrowingTrial);
+        assertEquals("Circuit open", rejected.getFailure().orElse(null));
+        assertEquals("Connection #5", trial.orElse(null));
+        assertEquals(Resilience.CircuitBreaker.CLOSED, breaker.state());
+    }
+
+    @DisplayName("Should keep the circuit closed below the threshold")
+    @Test
+    void shouldKeepCircuitClosed() {
+        // Given
+        Resilience.CircuitBreaker breaker = new Resilience.CircuitBreaker(4, 0.5, 4, 100, () -> 0);
+        // When
+        for (int i = 0; i < 100; i++) {
+            final int n = i;
+            breaker.call(() -> n % 4 == 0 ? failure("Connection error") : success(n), "Circuit open");
+        }
+        // Then
+        assertEquals(Resilience.CircuitBreaker.CLOSED, breaker.state());
+        assertEquals(0.25, breaker.failureRate());
+    }
+}
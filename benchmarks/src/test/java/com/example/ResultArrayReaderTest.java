@@ -0,0 +1,59 @@
+package com.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Result Array Reader")
+class ResultArrayReaderTest {
+
+    static final String JSON =
+            "[{\"success\":1},{\"failure\":\"Nay\"},{\"success\":3},{\"success\":4},{\"success\":5}]";
+
+    static InputStream input() {
+        return new ByteArrayInputStream(JSON.getBytes(UTF_8));
+    }
+
+    @DisplayName("ResultArrayReader.stream")
+    @Test
+    void testStream() {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        // When
+        List<Integer> successes;
+        List<String> failures;
+        try (Stream<Result<Integer, String>> stream =
+                     ResultArrayReader.stream(objectMapper, input(), Integer.class, String.class)) {
+            List<Result<Integer, String>> results = stream.toList();
+            successes = results.stream().flatMap(Result::streamSuccess).toList();
+            failures = results.stream().flatMap(Result::streamFailure).toList();
+        }
+        // Then
+        assertEquals(List.of(1, 3, 4, 5), successes);
+        assertEquals(List.of("Nay"), failures);
+    }
+
+    @DisplayName("ResultArrayReader.chunks")
+    @Test
+    void testChunks() {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        // When
+        List<Integer> sizes;
+        try (Stream<List<Result<Integer, String>>> chunks =
+                     ResultArrayReader.chunks(objectMapper, input(), Integer.class, String.class, 2)) {
+            sizes = chunks.map(List::size).toList();
+        }
+        // Then
+        assertEquals(List.of(2, 2, 1), sizes);
+    }
+}
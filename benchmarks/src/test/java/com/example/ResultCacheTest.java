@@ -0,0 +1,180 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Result Cache")
+class ResultCacheTest {
+
+    /** Represents a pet store error */
+    enum PetError {
+        NOT_FOUND
+    }
+
+    final AtomicLong timesLoaded = new AtomicLong();
+    final AtomicLong clock = new AtomicLong();
+
+    Result<String, PetError> find(Long id) {
+        timesLoaded.incrementAndGet();
+        return id < 0 ? failure(PetError.NOT_FOUND) : success("Pet #" + id);
+    }
+
+    @DisplayName("Should keep successes for their TTL")
+    @Test
+    void shouldKeepSuccesses() {
+        // Given
+        ResultCache<Long, String, PetError> cache = new ResultCache<>(this::find, 100, 100, 10, clock::get, 1);
+        // When
+        cache.get(1L);
+        clock.set(99);
+        Result<String, PetError> cached = cache.get(1L);
+        clock.set(100);
+        cache.get(1L);
+        // Then
+        assertEquals("Pet #1", cached.orElse(null));
+        assertEquals(2L, timesLoaded.get());
+    }
+
+    @DisplayName("Should keep failures for their TTL")
+    @Test
+    void shouldKeepFailures() {
+        // Given
+        ResultCache<Long, String, PetError> cache = new ResultCache<>(this::find, 100, 100, 10, clock::get, 1);
+        // When
+        cache.get(-1L);
+        clock.set(9);
+        Result<String, PetError> cached = cache.get(-1L);
+        clock.set(10);
+        cache.get(-1L);
+        // Then
+        assertEquals(PetError.NOT_FOUND, cached.getFailure().orElse(null));
+        assertEquals(2L, timesLoaded.get());
+    }
+
+    @DisplayName("Should not cache exceptions")
+    @Test
+    void shouldNotCacheExceptions() {
+        // Given
+        ResultCache<Long, String, Exception> cache = new ResultCache<>(id -> Results.ofCallable(() -> {
+            timesLoaded.incrementAndGet();
+            throw new IOException("Unavailable");
+        }), 100, 100, 100, clock::get, 1);
+        // When
+        cache.get(1L);
+        Result<String, Exception> result = cache.get(1L);
+        // Then
+        assertEquals("Unavailable", result.getFailure().map(Exception::getMessage).orElse(null));
+        assertEquals(2L, timesLoaded.get());
+        assertEquals(0, cache.size());
+    }
+
+    @DisplayName("Should evict least recently used entries")
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        ResultCache<Long, String, PetError> cache = new ResultCache<>(this::find, 2, 100, 100, clock::get, 1);
+        // When
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+        // Then
+        assertEquals(4L, timesLoaded.get());
+        assertEquals(2, cache.size());
+    }
+
+    @DisplayName("Should load concurrent misses once")
+    @Test
+    void shouldCoalesceMisses() throws Exception {
+        AtomicLong loaderCalls = new AtomicLong();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch waiters = new CountDownLatch(7);
+        CountDownLatch release = new CountDownLatch(1);
+        // Given
+        ResultCache<Long, String, PetError> cache = new ResultCache<>(id -> {
+            loaderCalls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return find(id);
+        }, 100, 100, 100, clock::get, 1);
+        List<Future<Result<String, PetError>>> results = new ArrayList<>();
+        double hitRateWhilePending;
+        long loaderCallsWhilePending;
+        boolean allPending;
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            results.add(executor.submit(() -> cache.get(1L)));
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> {
+                    waiters.countDown();
+                    return cache.get(1L);
+                }));
+            }
+            waiters.await();
+            /* Each waiter counts a hit right before blocking on the load in progress */
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.hitRate() < 0.875 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            hitRateWhilePending = cache.hitRate();
+            loaderCallsWhilePending = loaderCalls.get();
+            allPending = results.stream().noneMatch(Future::isDone);
+            release.countDown();
+        }
+        // Then
+        assertEquals(0.875, hitRateWhilePending);
+        assertEquals(1L, loaderCallsWhilePending);
+        assertTrue(allPending);
+        for (Future<Result<String, PetError>> result : results) {
+            assertEquals("Pet #1", result.get().orElse(null));
+        }
+        assertEquals(1L, timesLoaded.get());
+    }
+
+    @DisplayName("Should discard entries whose loader throws")
+    @Test
+    void shouldDiscardFailedLoads() {
+        // Given
+        ResultCache<Long, String, PetError> cache = new ResultCache<>(id -> {
+            if (timesLoaded.get() == 0) {
+                timesLoaded.incrementAndGet();
+                throw new Error("Broken loader");
+            }
+            return find(id);
+        }, 100, 100, 100, clock::get, 1);
+        // When
+        Error error = assertThrows(Error.class, () -> cache.get(1L));
+        int sizeAfterError = cache.size();
+        Result<String, PetError> result = cache.get(1L);
+        // Then
+        assertEquals("Broken loader", error.getMessage());
+        assertEquals(0, sizeAfterError);
+        assertEquals("Pet #1", result.orElse(null));
+        assertEquals(2L, timesLoaded.get());
+    }
+}
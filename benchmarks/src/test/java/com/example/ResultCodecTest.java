@@ -0,0 +1,141 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Result Codec")
+class ResultCodecTest {
+
+    final ResultCodec<Integer, String> codec = ResultCodec.of(ResultCodec.INT, ResultCodec.STRING);
+
+    @DisplayName("Should round-trip a success")
+    @Test
+    void shouldRoundTripSuccess() {
+        // Given
+        Result<Integer, String> result = success(123);
+        // When
+        byte[] bytes = codec.encode(result);
+        Result<Integer, String> decoded = codec.decode(bytes);
+        // Then
+        assertEquals(5, bytes.length);
+        assertEquals(ResultCodec.SUCCESS, bytes[0]);
+        assertEquals(123, decoded.orElse(null));
+    }
+
+    @DisplayName("Should round-trip a failure")
+    @Test
+    void shouldRoundTripFailure() {
+        // Given
+        Result<Integer, String> result = failure("Oops ¡€😀");
+        // When
+        byte[] bytes = codec.encode(result);
+        Result<Integer, String> decoded = codec.decode(bytes);
+        // Then
+        assertEquals(codec.size(result), bytes.length);
+        assertEquals(ResultCodec.FAILURE, bytes[0]);
+        assertEquals("Oops ¡€😀", decoded.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should encode unpaired surrogates like String.getBytes")
+    @Test
+    void shouldEncodeUnpairedSurrogates() {
+        // Given
+        Result<Integer, String> result = failure("A\uD83D-\uDE00");
+        // When
+        byte[] bytes = codec.encode(result);
+        Result<Integer, String> decoded = codec.decode(bytes);
+        // Then
+        assertEquals(1 + Integer.BYTES + 4, bytes.length);
+        assertEquals(codec.size(result), bytes.length);
+        assertEquals("A?-?", decoded.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should read and write primitive results in the same format")
+    @Test
+    void shouldReadAndWritePrimitiveResults() {
+        // Given
+        ResultCodec.IntCodec<String> intCodec = ResultCodec.ofInt(ResultCodec.STRING);
+        ResultCodec.LongCodec<String> longCodec = ResultCodec.ofLong(ResultCodec.STRING);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        // When
+        intCodec.write(IntResult.success(123), buffer);
+        intCodec.write(IntResult.failure("Oops"), buffer);
+        longCodec.write(LongResult.success(1234567890123L), buffer);
+        buffer.flip();
+        Result<Integer, String> result1 = codec.read(buffer);
+        IntResult<String> result2 = intCodec.read(buffer);
+        LongResult<String> result3 = longCodec.read(buffer);
+        // Then
+        assertEquals(123, result1.orElse(null));
+        assertEquals("Oops", result2.getFailure().orElse(null));
+        assertEquals(1234567890123L, result3.orElse(-1L));
+        assertEquals(5, intCodec.size(IntResult.success(123)));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @DisplayName("Should read consecutive results from a direct buffer")
+    @Test
+    void shouldReadConsecutiveResults() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.write(success(1), buffer);
+        codec.write(failure("Oops"), buffer);
+        codec.write(success(2), buffer);
+        buffer.flip();
+        // When
+        Result<Integer, String> result1 = codec.read(buffer);
+        Result<Integer, String> result2 = codec.read(buffer);
+        Result<Integer, String> result3 = codec.read(buffer);
+        // Then
+        assertEquals(1, result1.orElse(null));
+        assertEquals("Oops", result2.getFailure().orElse(null));
+        assertEquals(2, result3.orElse(null));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @DisplayName("Should read results from a memory-mapped file")
+    @Test
+    void shouldReadMemoryMappedFile() throws IOException {
+        Path file = Files.createTempFile("results", ".bin");
+        try {
+            // Given
+            Result<Integer, String> result = failure("Oops");
+            Files.write(file, codec.encode(result));
+            // When
+            Result<Integer, String> decoded;
+            try (FileChannel channel = FileChannel.open(file, READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                decoded = codec.read(buffer);
+            }
+            // Then
+            assertEquals("Oops", decoded.getFailure().orElse(null));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @DisplayName("Should reject unknown discriminators")
+    @Test
+    void shouldRejectUnknownDiscriminators() {
+        // Given
+        byte[] bytes = {2, 0, 0, 0, 0};
+        // When
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> codec.decode(bytes));
+        // Then
+        assertEquals("Unknown discriminator: 2", exception.getMessage());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Result Flows")
+class ResultFlowsTest {
+
+    /** Collects the elements it receives, requesting them as told */
+    static class Collector<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = new ArrayList<>();
+        final long initialRequest;
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    static Flow.Publisher<Result<Integer, String>> publisher(int size) {
+        List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(i % 3 == 0 ? failure("F" + i) : success(i));
+        }
+        return new IterablePublisher<>(results);
+    }
+
+    @DisplayName("Should map success values")
+    @Test
+    void shouldMapSuccess() {
+        // Given
+        Collector<Result<Integer, String>> collector = new Collector<>(Long.MAX_VALUE);
+        // When
+        ResultFlows.mapSuccess(publisher(4), x -> x * 10).subscribe(collector);
+        // Then
+        assertEquals(4, collector.items.size());
+        assertEquals("F0", collector.items.get(0).getFailure().orElse(null));
+        assertEquals(10, collector.items.get(1).orElse(null));
+        assertEquals(20, collector.items.get(2).orElse(null));
+        assertEquals("F3", collector.items.get(3).getFailure().orElse(null));
+        assertTrue(collector.completed);
+    }
+
+    @DisplayName("Should flat-map results")
+    @Test
+    void shouldFlatMap() {
+        // Given
+        Collector<Result<Integer, String>> collector = new Collector<>(Long.MAX_VALUE);
+        // When
+        ResultFlows.flatMap(publisher(3), x -> failure("S" + x), x -> success(x.length())).subscribe(collector);
+        // Then
+        assertEquals(2, collector.items.get(0).orElse(null));
+        assertEquals("S1", collector.items.get(1).getFailure().orElse(null));
+        assertEquals("S2", collector.items.get(2).getFailure().orElse(null));
+    }
+
+    @DisplayName("Should respect demand")
+    @Test
+    void shouldRespectDemand() {
+        // Given
+        Collector<Result<Integer, String>> collector = new Collector<>(2);
+        // When
+        ResultFlows.mapSuccess(publisher(10), x -> x).subscribe(collector);
+        int before = collector.items.size();
+        collector.subscription.request(3);
+        int after = collector.items.size();
+        // Then
+        assertEquals(2, before);
+        assertEquals(5, after);
+        assertFalse(collector.completed);
+    }
+
+    @DisplayName("Should batch elements")
+    @Test
+    void shouldBatch() {
+        // Given
+        Collector<List<Result<Integer, String>>> collector = new Collector<>(1);
+        // When
+        ResultFlows.batch(publisher(10), 4).subscribe(collector);
+        int before = collector.items.size();
+        collector.subscription.request(Long.MAX_VALUE);
+        // Then
+        assertEquals(1, before);
+        assertEquals(List.of(4, 4, 2), collector.items.stream().map(List::size).toList());
+        assertTrue(collector.completed);
+    }
+
+    @DisplayName("Should split successes and failures")
+    @Test
+    void shouldSplit() {
+        // Given
+        Collector<Integer> successes = new Collector<>(Long.MAX_VALUE);
+        Collector<String> failures = new Collector<>(Long.MAX_VALUE);
+        // When
+        ResultFlows.split(publisher(7), successes, failures);
+        // Then
+        assertEquals(List.of(1, 2, 4, 5), successes.items);
+        assertEquals(List.of("F0", "F3", "F6"), failures.items);
+        assertTrue(successes.completed);
+        assertTrue(failures.completed);
+    }
+
+    @DisplayName("Should split within the demand of both subscribers")
+    @Test
+    void shouldSplitWithinDemand() {
+        // Given
+        Collector<Integer> successes = new Collector<>(Long.MAX_VALUE);
+        Collector<String> failures = new Collector<>(1);
+        // When
+        ResultFlows.split(publisher(7), successes, failures);
+        List<Integer> before = List.copyOf(successes.items);
+        failures.subscription.request(1);
+        // Then
+        assertEquals(List.of(), before);
+        assertEquals(List.of(1, 2), successes.items);
+        assertEquals(List.of("F0", "F3"), failures.items);
+        assertFalse(successes.completed);
+    }
+
+    @DisplayName("Should keep splitting after one subscriber cancels")
+    @Test
+    void shouldSplitAfterCancel() {
+        // Given
+        Collector<Integer> successes = new Collector<>(Long.MAX_VALUE);
+        Collector<String> failures = new Collector<>(0);
+        // When
+        ResultFlows.split(publisher(7), successes, failures);
+        failures.subscription.cancel();
+        // Then
+        assertEquals(List.of(1, 2, 4, 5), successes.items);
+        assertEquals(List.of(), failures.items);
+        assertTrue(successes.completed);
+    }
+}
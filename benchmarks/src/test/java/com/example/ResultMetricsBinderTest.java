@@ -0,0 +1,34 @@
+package com.example;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Result Metrics Binder")
+class ResultMetricsBinderTest {
+
+    @DisplayName("Should expose existing and new counters")
+    @Test
+    void shouldExposeCounters() {
+        // Given
+        ResultMetrics metrics = new CountingResultMetrics();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        metrics.onSuccess("uptime");
+        // When
+        new ResultMetricsBinder(metrics).bindTo(registry);
+        metrics.onSuccess("uptime");
+        metrics.onFailure("uptime", IOException.class);
+        // Then
+        assertEquals(2.0, registry.get("results")
+                .tag("site", "uptime").tag("outcome", "success").tag("failure", "none")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("results")
+                .tag("site", "uptime").tag("outcome", "failure").tag("failure", IOException.class.getName())
+                .functionCounter().count());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Result Slot")
+class ResultSlotTest {
+
+    @DisplayName("Should reuse the same slot")
+    @Test
+    void shouldReuseSlot() {
+        // Given
+        ResultSlot<Integer, String> slot = new ResultSlot<>();
+        List<Object> values = new ArrayList<>();
+        // When
+        slot.success(1).ifSuccessOrElse(values::add, values::add);
+        slot.failure("Oops").ifSuccessOrElse(values::add, values::add);
+        slot.set(failure("Again")).ifFailure(values::add);
+        // Then
+        assertEquals(List.of(1, "Oops", "Again"), values);
+        assertTrue(slot.hasFailure());
+        assertFalse(slot.hasSuccess());
+        assertEquals(0, slot.orElse(0));
+        assertEquals(5, slot.orElseMap(String::length));
+    }
+
+    @DisplayName("Should map into another slot")
+    @Test
+    void shouldMapIntoAnotherSlot() {
+        // Given
+        ResultSlot<Integer, String> source = new ResultSlot<Integer, String>().success(21);
+        ResultSlot<String, String> target = new ResultSlot<>();
+        // When
+        source.mapSuccess(x -> "#" + x * 2, target);
+        // Then
+        assertEquals("#42", target.orElse(null));
+        assertEquals(21, source.orElse(null));
+    }
+
+    @DisplayName("Should freeze into an immutable result")
+    @Test
+    void shouldFreeze() {
+        // Given
+        ResultSlot<Integer, String> slot = new ResultSlot<Integer, String>().failure("Oops");
+        // When
+        Result<Integer, String> frozen = slot.freeze();
+        slot.success(1);
+        // Then
+        assertEquals("Oops", frozen.getFailure().orElse(null));
+        assertEquals(1, slot.orElse(null));
+    }
+
+    @DisplayName("Should reject reading an empty slot")
+    @Test
+    void shouldRejectEmptySlot() {
+        // Given
+        ResultSlot<Integer, String> slot = new ResultSlot<Integer, String>().success(1);
+        // When
+        slot.clear();
+        // Then
+        assertThrows(IllegalStateException.class, slot::hasSuccess);
+    }
+
+    @DisplayName("Should not allocate when reused")
+    @Test
+    void shouldNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        // Given
+        ResultSlot<Integer, String> parsed = new ResultSlot<>();
+        ResultSlot<Integer, String> mapped = new ResultSlot<>();
+        Integer value = 1000;
+        Function<Integer, Integer> identity = x -> x;
+        Consumer<Object> ignore = x -> {
+        };
+        threads.getThreadAllocatedBytes(threadId);
+        // When
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            ResultSlot<Integer, String> event = i % 10 == 0 ? parsed.failure("Invalid") : parsed.success(value);
+            event.mapSuccess(identity, mapped).ifSuccessOrElse(ignore, ignore);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        // Then
+        assertTrue(allocated < 10_000, () -> allocated + " bytes allocated for 10000 events");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DisplayName("Result Values")
+class ResultValuesTest {
+
+    static List<Result<Integer, String>> results(int size) {
+        List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(i % 3 == 0 ? failure("F" + i) : success(i));
+        }
+        return results;
+    }
+
+    @DisplayName("Should drain successes and failures")
+    @Test
+    void shouldDrain() {
+        // Given
+        List<Result<Integer, String>> results = results(7);
+        // When
+        List<Integer> successes = ResultValues.successes(results, new ArrayList<>());
+        List<String> failures = ResultValues.failures(results, new ArrayList<>());
+        // Then
+        assertEquals(List.of(1, 2, 4, 5), successes);
+        assertEquals(List.of("F0", "F3", "F6"), failures);
+    }
+
+    @DisplayName("Should drain arrays")
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDrainArrays() {
+        // Given
+        Result<Integer, String>[] results = results(7).toArray(Result[]::new);
+        List<Integer> successes = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        // When
+        ResultValues.forEachSuccess(results, successes::add);
+        ResultValues.forEachFailure(results, failures::add);
+        // Then
+        assertEquals(List.of(1, 2, 4, 5), successes);
+        assertEquals(List.of("F0", "F3", "F6"), failures);
+    }
+
+    @DisplayName("Should split evenly")
+    @Test
+    void shouldSplit() {
+        // Given
+        Spliterator<Integer> spliterator = ResultValues.successSpliterator(results(100));
+        // When
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        // Then
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+    }
+
+    @DisplayName("Should stream values in parallel")
+    @Test
+    void shouldStreamInParallel() {
+        // Given
+        List<Result<Integer, String>> results = results(10_000);
+        // When
+        List<Integer> successes = StreamSupport.stream(ResultValues.successSpliterator(results), true).toList();
+        long failures = StreamSupport.stream(ResultValues.failureSpliterator(results), true)
+                .collect(Collectors.counting());
+        // Then
+        assertEquals(ResultValues.successes(results, new ArrayList<>()), successes);
+        assertEquals(3334L, failures);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.ResultsAssert.assertThatResults;
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Results Assert")
+class ResultsAssertTest {
+
+    static List<Result<Integer, String>> results(int size, int failEvery) {
+        List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(i % failEvery == failEvery - 1 ? failure("Invalid #" + i) : success(i));
+        }
+        return results;
+    }
+
+    @DisplayName("Should pass when all results have success")
+    @Test
+    void shouldPass() {
+        // Given
+        List<Result<Integer, String>> results = results(100, Integer.MAX_VALUE);
+        // Then
+        assertThatResults(results).allHaveSuccess().successesSatisfy(x -> {
+            if (x < 0) {
+                throw new AssertionError("Negative");
+            }
+        });
+        assertThatResults(results.stream()).failuresSatisfy(x -> {
+            throw new AssertionError("Unreachable");
+        });
+    }
+
+    @DisplayName("Should describe the first failures only")
+    @Test
+    void shouldDescribeFirstFailures() {
+        // Given
+        List<Result<Integer, String>> results = results(1000, 10);
+        // When
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> assertThatResults(results).reportingAtMost(2).allHaveSuccess());
+        // Then
+        assertEquals(String.format("Expecting all results to have success, but 100 of 1000 did not. First 2:"
+                + "%n  [9] failure: Invalid #9%n  [19] failure: Invalid #19"), error.getMessage());
+    }
+
+    @DisplayName("Should describe failures that don't satisfy the requirements")
+    @Test
+    void shouldDescribeUnsatisfiedRequirements() {
+        // Given
+        List<Result<Integer, String>> results = results(100, 2);
+        // When
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> assertThatResults(results).reportingAtMost(3).failuresSatisfy(x -> {
+                    if (!x.endsWith("1")) {
+                        throw new AssertionError(x + " does not end with 1");
+                    }
+                }));
+        // Then
+        assertEquals(String.format("Expecting all results to have a failure value satisfying the requirements,"
+                + " but 40 of 100 did not. First 3:%n  [3] Invalid #3 does not end with 1"
+                + "%n  [5] Invalid #5 does not end with 1%n  [7] Invalid #7 does not end with 1"), error.getMessage());
+    }
+
+    @DisplayName("Should reject a negative number of reported results")
+    @Test
+    void shouldRejectNegativeReported() {
+        // Given
+        List<Result<Integer, String>> results = results(10, 2);
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> assertThatResults(results).reportingAtMost(-1));
+    }
+}
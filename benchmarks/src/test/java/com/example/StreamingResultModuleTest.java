@@ -0,0 +1,83 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Streaming Result Module")
+class StreamingResultModuleTest {
+
+    record ApiResponse(
+            @JsonProperty("version") String version, @JsonProperty("result") Result<Integer, List<String>> result) {
+    }
+
+    @DisplayName("Serialize results with both fields")
+    @Test
+    void testSerialize() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new StreamingResultModule());
+        // When
+        String json1 = objectMapper.writeValueAsString(success(200));
+        String json2 = objectMapper.writeValueAsString(failure(List.of("Oops")));
+        // Then
+        assertEquals("{\"failure\":null,\"success\":200}", json1);
+        assertEquals("{\"failure\":[\"Oops\"],\"success\":null}", json2);
+    }
+
+    @DisplayName("Serialize results in compact form")
+    @Test
+    void testSerializeCompact() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new StreamingResultModule(true));
+        // When
+        String json1 = objectMapper.writeValueAsString(success(200));
+        String json2 = objectMapper.writeValueAsString(failure(List.of("Oops")));
+        // Then
+        assertEquals("{\"success\":200}", json1);
+        assertEquals("{\"failure\":[\"Oops\"]}", json2);
+    }
+
+    @DisplayName("Deserialize results in either form")
+    @Test
+    void testDeserialize() throws Exception {
+        // Given
+        String json1 = "{\"version\":\"v5\",\"result\":{\"success\":200}}";
+        String json2 = "{\"version\":\"v6\",\"result\":{\"failure\":[\"Nay\"],\"success\":null}}";
+        // When
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new StreamingResultModule());
+        ApiResponse response1 = objectMapper.readValue(json1, ApiResponse.class);
+        ApiResponse response2 = objectMapper.readValue(json2, ApiResponse.class);
+        // Then
+        assertEquals(200, response1.result().orElse(null));
+        assertEquals(List.of("Nay"), response2.result().getFailure().orElse(null));
+    }
+
+    @DisplayName("Deserialize results without type information")
+    @Test
+    void testDeserializeUntyped() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonParser parser = objectMapper.createParser("{\"failure\":[\"Nay\"]}");
+        DeserializationContext ctxt = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), parser, null);
+        // When
+        JsonDeserializer<?> deserializer = new StreamingResultModule.Deserializer(null, null)
+                .createContextual(ctxt, null);
+        parser.nextToken();
+        Result<?, ?> result = (Result<?, ?>) deserializer.deserialize(parser, ctxt);
+        // Then
+        assertEquals(List.of("Nay"), result.getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example;
+
+import com.leakyabstractions.result.api.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.leakyabstractions.result.core.Results.failure;
+import static com.leakyabstractions.result.core.Results.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Validation")
+class ValidationTest {
+
+    /** Represents a validated user */
+    record User(String name, Integer age) {
+    }
+
+    static Result<String, String> validateName(String name) {
+        return name.isBlank() ? failure("Blank name") : success(name);
+    }
+
+    static Result<Integer, String> validateAge(int age) {
+        return age < 0 ? failure("Negative age") : success(age);
+    }
+
+    @DisplayName("Should combine valid values")
+    @Test
+    void shouldCombineValidValues() {
+        // Given
+        Validation<String> validation = new Validation<>();
+        // When
+        String name = validation.check(validateName("Rocky"));
+        Integer age = validation.check(validateAge(3));
+        Result<User, List<String>> user = validation.toResult(() -> new User(name, age));
+        // Then
+        assertTrue(validation.isValid());
+        assertEquals(new User("Rocky", 3), user.orElse(null));
+    }
+
+    @DisplayName("Should collect every error")
+    @Test
+    void shouldCollectEveryError() {
+        // Given
+        Validation<String> validation = new Validation<>();
+        // When
+        String name = validation.check(validateName(" "));
+        Integer age = validation.check(validateAge(-1));
+        validation.check(age, x -> x == null || x < 100, x -> "Too old");
+        Result<User, List<String>> user = validation.toResult(() -> new User(name, age));
+        // Then
+        assertFalse(validation.isValid());
+        assertEquals(List.of("Blank name", "Negative age"), user.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should not change returned errors")
+    @Test
+    void shouldNotChangeReturnedErrors() {
+        // Given
+        Validation<String> validation = new Validation<>();
+        validation.check(validateName(" "));
+        Result<String, List<String>> first = validation.toResult(() -> "Unreachable");
+        // When
+        validation.check(validateAge(-1));
+        Result<String, List<String>> second = validation.toResult(() -> "Unreachable");
+        // Then
+        assertEquals(List.of("Blank name"), first.getFailure().orElse(null));
+        assertEquals(List.of("Blank name", "Negative age"), second.getFailure().orElse(null));
+    }
+
+    @DisplayName("Should zip valid results")
+    @Test
+    void shouldZipValidResults() {
+        // When
+        Result<User, List<String>> user = Validation.zip2(validateName("Rocky"), validateAge(3), User::new);
+        Result<Integer, List<String>> sum = Validation.zip8(
+                success(1), success(2), success(3), success(4), success(5), success(6), success(7), success(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        // Then
+        assertEquals(new User("Rocky", 3), user.orElse(null));
+        assertEquals(36, sum.orElse(null));
+    }
+
+    @DisplayName("Should zip all failures")
+    @Test
+    void shouldZipAllFailures() {
+        // When
+        Result<Integer, List<String>> sum = Validation.zip3(failure("First"), success(2), failure("Third"),
+                (Integer a, Integer b, Integer c) -> a + b + c);
+        List<String> errors = sum.getFailure().orElseThrow();
+        // Then
+        assertEquals(List.of("First", "Third"), errors);
+        assertThrows(UnsupportedOperationException.class, () -> errors.add("Fourth"));
+    }
+}